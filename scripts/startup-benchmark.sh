@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark for the scoreboard build variants.
+#
+# Measures, for every variant that has been built, the time from process start to the first successful
+# GET /vk/scoreboard/summary and the resident set size (RSS) right after that request.
+#
+#   mvn -Pfast-startup package       # builds target/<jar> and target/fast-startup (AOT + CDS)
+#   mvn -Pnative package             # optional, builds target/football-scoreboard (GraalVM)
+#   scripts/startup-benchmark.sh [runs] [target-directory]
+#
+# Variants:
+#   jvm      plain executable jar
+#   aot      extracted jar with Spring AOT initialization
+#   aot-cds  aot plus the application class-data-sharing archive
+#   native   GraalVM native image
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+TARGET="${2:-target}"
+PORT="${PORT:-18081}"
+JAR_NAME="${JAR_NAME:-football-scoreboard-1.0-SNAPSHOT.jar}"
+URL="http://localhost:${PORT}/vk/scoreboard/summary"
+TIMEOUT_SECONDS=60
+
+now_millis() {
+    date +%s%3N
+}
+
+rss_kb() {
+    awk '/VmRSS/ {print $2}' "/proc/$1/status"
+}
+
+# Starts the command, waits for the first successful request and prints "<millis> <rss-kb>"
+measure() {
+    local start pid elapsed rss
+    start=$(now_millis)
+    "$@" --server.port="${PORT}" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "${URL}"; do
+        if ! kill -0 "${pid}" 2> /dev/null || (( $(now_millis) - start > TIMEOUT_SECONDS * 1000 )); then
+            echo "failed" >&2
+            kill "${pid}" 2> /dev/null || true
+            return 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_millis) - start ))
+    rss=$(rss_kb "${pid}")
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+    echo "${elapsed} ${rss}"
+}
+
+benchmark() {
+    local name="$1"
+    shift
+    local total_millis=0 total_rss=0 result millis rss
+    for ((run = 1; run <= RUNS; run++)); do
+        result=$(measure "$@")
+        read -r millis rss <<< "${result}"
+        printf '%-8s run %d: %6d ms to first request, %7d KB RSS\n' "${name}" "${run}" "${millis}" "${rss}"
+        total_millis=$((total_millis + millis))
+        total_rss=$((total_rss + rss))
+    done
+    printf '%-8s mean : %6d ms to first request, %7d KB RSS\n\n' "${name}" $((total_millis / RUNS)) $((total_rss / RUNS))
+}
+
+if [[ -f "${TARGET}/${JAR_NAME}" ]]; then
+    benchmark jvm java -jar "${TARGET}/${JAR_NAME}"
+fi
+
+if [[ -f "${TARGET}/fast-startup/${JAR_NAME}" ]]; then
+    benchmark aot java -Dspring.aot.enabled=true -jar "${TARGET}/fast-startup/${JAR_NAME}"
+    if [[ -f "${TARGET}/fast-startup/application.jsa" ]]; then
+        benchmark aot-cds java -XX:SharedArchiveFile="${TARGET}/fast-startup/application.jsa" -Dspring.aot.enabled=true \
+            -jar "${TARGET}/fast-startup/${JAR_NAME}"
+    fi
+fi
+
+if [[ -x "${TARGET}/football-scoreboard" ]]; then
+    benchmark native "${TARGET}/football-scoreboard"
+fi
@@ -0,0 +1,82 @@
+package footbal.controller;
+
+import footbal.scoreboard.service.Fixture;
+import org.springframework.boot.json.JsonParserFactory;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Lazily parses a fixture list line by line, so the request body is never buffered as a whole.
+ * <p>
+ * CSV rows are {@code homeTeam,awayTeam} with an optional header on the first non-blank line; NDJSON rows are
+ * {@code {"homeTeam": "...", "awayTeam": "..."}} objects. Blank lines are skipped.
+ */
+public final class FixtureReader {
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String MALFORMED_CSV_ROW = "Expected homeTeam,awayTeam.";
+    public static final String MALFORMED_JSON_ROW = "Expected {\"homeTeam\": ..., \"awayTeam\": ...}.";
+    private static final String CSV_HEADER = "homeTeam,awayTeam";
+
+    private FixtureReader() {
+    }
+
+    public static Stream<Fixture> csv(Reader reader) {
+        AtomicBoolean firstRow = new AtomicBoolean(true);
+        return lines(reader)
+                .map(line -> firstRow.getAndSet(false) && isHeader(line) ? null : parseCsv(line))
+                .filter(Objects::nonNull);
+    }
+
+    public static Stream<Fixture> ndjson(Reader reader) {
+        return lines(reader).map(FixtureReader::parseJson);
+    }
+
+    private static Stream<NumberedLine> lines(Reader reader) {
+        AtomicLong lineNumber = new AtomicLong();
+        return new BufferedReader(reader).lines()
+                .map(text -> new NumberedLine(lineNumber.incrementAndGet(), text.strip()))
+                .filter(line -> !line.text().isEmpty());
+    }
+
+    private static boolean isHeader(NumberedLine line) {
+        return line.text().replace(" ", "").equalsIgnoreCase(CSV_HEADER);
+    }
+
+    private static Fixture parseCsv(NumberedLine line) {
+        String[] columns = line.text().split(",", -1);
+        if (columns.length != 2) {
+            return Fixture.malformed(line.number(), MALFORMED_CSV_ROW);
+        }
+        return new Fixture(line.number(), unquote(columns[0]), unquote(columns[1]));
+    }
+
+    private static Fixture parseJson(NumberedLine line) {
+        try {
+            Map<String, Object> row = JsonParserFactory.getJsonParser().parseMap(line.text());
+            if (row.get("homeTeam") instanceof String homeTeam && row.get("awayTeam") instanceof String awayTeam) {
+                return new Fixture(line.number(), homeTeam.strip(), awayTeam.strip());
+            }
+        } catch (IllegalArgumentException e) {
+            //Not a JSON object, reported below
+        }
+        return Fixture.malformed(line.number(), MALFORMED_JSON_ROW);
+    }
+
+    private static String unquote(String column) {
+        String value = column.strip();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1).strip();
+        }
+        return value;
+    }
+
+    private record NumberedLine(long number, String text) {
+    }
+}
@@ -1,14 +1,25 @@
 package footbal.controller;
 
+import footbal.scoreboard.LiveStatistics;
 import footbal.scoreboard.Match;
-import footbal.scoreboard.service.ScoreboardService;
+import footbal.scoreboard.RankingOrder;
+import footbal.scoreboard.ScoreChange;
+import footbal.scoreboard.ScoreboardSnapshot;
+import footbal.scoreboard.service.Changes;
+import footbal.scoreboard.service.Fixture;
+import footbal.scoreboard.service.ImportResult;
+import footbal.scoreboard.service.ScoreboardEngine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.Reader;
 import java.util.List;
+import java.util.stream.Stream;
 
-import static footbal.scoreboard.service.ScoreboardService.*;
+import static footbal.scoreboard.service.ScoreboardEngine.*;
 
 @RestController
 @RequestMapping("/vk/scoreboard")
@@ -16,13 +27,65 @@ public class ScoreboardController {
     public static final String INVALID_MATCH_INDEX = "Invalid match index: ";
     public static final String UPDATED_FOR_MATCH_AT_INDEX = "Score updated for match at index ";
     public static final String FINISHED_AT_INDEX = "Match finished at index: ";
+    public static final String ADDED_TIME_FOR_MATCH_AT_INDEX = "Added time announced for match at index ";
     public static final String SCOREBOARD_HAS_BEEN_RESET = "Scoreboard has been reset.";
+    public static final String VERSION_HEADER = "X-Scoreboard-Version";
+    public static final String DEFAULT_SEARCH_LIMIT = "20";
+    public static final int MAX_SEARCH_LIMIT = 100;
+    public static final String DEFAULT_STATS_WINDOW = "15";
 
-    private final ScoreboardService scoreboardService = new ScoreboardService();
+    private final ScoreboardEngine scoreboardEngine;
+
+    public ScoreboardController(ScoreboardEngine scoreboardEngine) {
+        this.scoreboardEngine = scoreboardEngine;
+    }
 
     @GetMapping("/matches")
-    public List<Match> getMatches() {
-        return scoreboardService.getMatches();
+    public ResponseEntity<List<Match>> getMatches(@RequestParam(value = "order", required = false) RankingOrder order) {
+        if (order != null) {
+            //Indexes are updated before a version is published, so the ranking read after the version includes it;
+            //replaying /changes from the version can only repeat changes, not miss one
+            long version = scoreboardEngine.getVersion();
+            return ResponseEntity.ok()
+                    .header(VERSION_HEADER, String.valueOf(version))
+                    .body(scoreboardEngine.getSortedMatches(order));
+        }
+        //Matches and version come from the same snapshot, so the version is a valid starting point for /changes
+        ScoreboardSnapshot snapshot = scoreboardEngine.getSnapshot();
+        return ResponseEntity.ok()
+                .header(VERSION_HEADER, String.valueOf(snapshot.getVersion()))
+                .body(snapshot.getMatches());
+    }
+
+    @GetMapping("/changes")
+    public Changes getChanges(@RequestParam("since") long since) {
+        return scoreboardEngine.getChangesSince(since);
+    }
+
+    @GetMapping("/matches/team/{name}")
+    public ResponseEntity<List<Match>> getMatchesByTeam(@PathVariable("name") String name) {
+        List<Match> matches = scoreboardEngine.findMatchesByTeam(name);
+        if (matches.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(matches);
+    }
+
+    @GetMapping("/matches/{id}/timeline")
+    public ResponseEntity<List<ScoreChange>> getTimeline(@PathVariable("id") long id,
+                                                         @RequestParam(value = "minute", required = false) Integer minute) {
+        //The last change up to the minute is the score at that minute
+        List<ScoreChange> timeline = scoreboardEngine.getTimeline(id, minute == null ? Integer.MAX_VALUE : minute);
+        if (timeline == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(timeline);
+    }
+
+    @GetMapping("/matches/search")
+    public List<Match> searchMatches(@RequestParam("prefix") String prefix,
+                                     @RequestParam(value = "limit", defaultValue = DEFAULT_SEARCH_LIMIT) int limit) {
+        return scoreboardEngine.searchMatchesByTeamPrefix(prefix, Math.min(limit, MAX_SEARCH_LIMIT));
     }
 
     @PostMapping("/matches")
@@ -32,19 +95,30 @@ public class ScoreboardController {
             return ResponseEntity.badRequest().body(CANNOT_BE_NULL_OR_EMPTY);
         }
         try {
-            scoreboardService.startMatch(homeTeam, awayTeam);
+            scoreboardEngine.startMatch(homeTeam, awayTeam);
             return ResponseEntity.ok("Match started: " + homeTeam + " vs " + awayTeam);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(ALREADY_EXISTS);
         }
     }
 
+    @PostMapping(value = "/matches/import", consumes = {FixtureReader.TEXT_CSV, FixtureReader.APPLICATION_NDJSON})
+    public ResponseEntity<ImportResult> importMatches(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                      Reader body) {
+        Stream<Fixture> fixtures = MediaType.valueOf(FixtureReader.TEXT_CSV).isCompatibleWith(contentType)
+                ? FixtureReader.csv(body)
+                : FixtureReader.ndjson(body);
+        try (fixtures) {
+            return ResponseEntity.ok(scoreboardEngine.importMatches(fixtures));
+        }
+    }
+
     @PutMapping("/matches/{index}/score")
     public ResponseEntity<String> updateScore(@PathVariable("index") int index,
                                               @RequestParam("homeScore") int homeScore,
                                               @RequestParam("awayScore") int awayScore) {
         try {
-            scoreboardService.updateScore(index, homeScore, awayScore);
+            scoreboardEngine.updateScore(index, homeScore, awayScore);
             return ResponseEntity.ok(UPDATED_FOR_MATCH_AT_INDEX + index);
         } catch (IndexOutOfBoundsException e) {
             return ResponseEntity.badRequest().body(INVALID_MATCH_INDEX + index);
@@ -53,24 +127,51 @@ public class ScoreboardController {
         }
     }
 
+    @PutMapping("/matches/{index}/added-time")
+    public ResponseEntity<String> addTime(@PathVariable("index") int index,
+                                          @RequestParam("minutes") int minutes) {
+        try {
+            scoreboardEngine.addTime(index, minutes);
+            return ResponseEntity.ok(ADDED_TIME_FOR_MATCH_AT_INDEX + index);
+        } catch (IndexOutOfBoundsException e) {
+            return ResponseEntity.badRequest().body(INVALID_MATCH_INDEX + index);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/matches/{index}")
     public ResponseEntity<String> finishMatch(@PathVariable("index") int index) {
         try {
-            scoreboardService.finishMatch(index);
+            scoreboardEngine.finishMatch(index);
             return ResponseEntity.ok(FINISHED_AT_INDEX + index);
         } catch (IndexOutOfBoundsException e) {
             return ResponseEntity.badRequest().body(INVALID_MATCH_INDEX + index);
         }
     }
 
+    @GetMapping("/stats")
+    public LiveStatistics getStatistics(@RequestParam(value = "window", defaultValue = DEFAULT_STATS_WINDOW) int windowMinutes) {
+        return scoreboardEngine.getStatistics(windowMinutes);
+    }
+
+    @GetMapping("/stats/team/{name}")
+    public ResponseEntity<Long> getTeamGoals(@PathVariable("name") String name) {
+        Long goals = scoreboardEngine.getTeamGoals(name);
+        if (goals == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(goals);
+    }
+
     @GetMapping("/summary")
-    public ResponseEntity<List<String>> getSummary() {
-        return ResponseEntity.ok(scoreboardService.getFormatedSortedSummary());
+    public ResponseEntity<List<String>> getSummary(@RequestParam(value = "order", defaultValue = "SCORE") RankingOrder order) {
+        return ResponseEntity.ok(scoreboardEngine.getFormatedSortedSummary(order));
     }
 
     @PostMapping("/reset")
     public ResponseEntity<String> resetScoreboard() {
-        scoreboardService.reset();
+        scoreboardEngine.reset();
         return ResponseEntity.ok(SCOREBOARD_HAS_BEEN_RESET);
     }
 }
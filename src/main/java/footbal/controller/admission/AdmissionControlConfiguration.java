@@ -0,0 +1,21 @@
+package footbal.controller.admission;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AdmissionControlConfiguration implements WebMvcConfigurer {
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    public AdmissionControlConfiguration(AdmissionControlInterceptor admissionControlInterceptor) {
+        this.admissionControlInterceptor = admissionControlInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        //Only the match write paths are limited; reads and reset are always admitted
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/vk/scoreboard/matches", "/vk/scoreboard/matches/**");
+    }
+}
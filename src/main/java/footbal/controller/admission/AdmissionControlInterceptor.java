@@ -0,0 +1,213 @@
+package footbal.controller.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Protects read latency by rejecting scoreboard writes early, before they reach the write lock:
+ * a per-client and a global token bucket answer 429, and a bounded number of in-flight mutations answers 503.
+ * <p>
+ * At most {@code maxTrackedClients} clients have a bucket of their own. Idle clients are forgotten by a sweep
+ * that runs at most once per bucket refill time; new clients over the bound are only limited by the global bucket,
+ * so rotating client ids cannot grow the tracked clients or escape the global limit.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String CLIENT_RATE_LIMIT_EXCEEDED = "Client rate limit exceeded.";
+    public static final String GLOBAL_RATE_LIMIT_EXCEEDED = "Global rate limit exceeded.";
+    public static final String TOO_MANY_MUTATIONS_IN_FLIGHT = "Too many score changes in flight, try again later.";
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private final boolean enabled;
+    private final double clientRate;
+    private final double clientBurst;
+    private final int maxTrackedClients;
+    private final boolean trustClientIdHeader;
+    private final int maxInFlight;
+    private final TokenBucket globalBucket;
+    private final Semaphore inFlight;
+    private final ConcurrentHashMap<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    //Reserved before a bucket is added, so the bound holds under concurrent new clients
+    private final AtomicInteger trackedClients = new AtomicInteger();
+    private final LongSupplier nanoClock;
+    //An idle bucket is full again after burst / rate seconds, sweeping more often would find nothing new
+    private final long sweepIntervalNanos;
+    private final AtomicLong nextSweep;
+    private final LongAdder untrackedWrites = new LongAdder();
+    private final LimiterMetrics clientMetrics = new LimiterMetrics();
+    private final LimiterMetrics globalMetrics = new LimiterMetrics();
+    private final LimiterMetrics inFlightMetrics = new LimiterMetrics();
+
+    @Autowired
+    public AdmissionControlInterceptor(@Value("${scoreboard.admission.enabled:true}") boolean enabled,
+                                       @Value("${scoreboard.admission.client.rate:500}") double clientRate,
+                                       @Value("${scoreboard.admission.client.burst:1000}") double clientBurst,
+                                       @Value("${scoreboard.admission.global.rate:5000}") double globalRate,
+                                       @Value("${scoreboard.admission.global.burst:10000}") double globalBurst,
+                                       @Value("${scoreboard.admission.max-in-flight:64}") int maxInFlight,
+                                       @Value("${scoreboard.admission.max-tracked-clients:10000}") int maxTrackedClients,
+                                       @Value("${scoreboard.admission.trust-client-id-header:false}") boolean trustClientIdHeader) {
+        this(enabled, clientRate, clientBurst, globalRate, globalBurst, maxInFlight, maxTrackedClients, trustClientIdHeader,
+                System::nanoTime);
+    }
+
+    AdmissionControlInterceptor(boolean enabled, double clientRate, double clientBurst, double globalRate, double globalBurst,
+                                int maxInFlight, int maxTrackedClients, boolean trustClientIdHeader, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        this.maxTrackedClients = maxTrackedClients;
+        this.trustClientIdHeader = trustClientIdHeader;
+        this.nanoClock = nanoClock;
+        this.sweepIntervalNanos = (long) Math.ceil(clientBurst / clientRate * 1_000_000_000L);
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong());
+        this.globalBucket = new TokenBucket(globalRate, globalBurst, nanoClock);
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!enabled || !isWrite(request)) {
+            return true;
+        }
+
+        TokenBucket clientBucket = clientBucket(clientId(request));
+        if (clientBucket == null) {
+            //Too many clients to track, the global bucket alone limits this one
+            untrackedWrites.increment();
+        } else if (!clientBucket.tryAcquire()) {
+            clientMetrics.reject();
+            return reject(response, HttpStatus.TOO_MANY_REQUESTS, CLIENT_RATE_LIMIT_EXCEEDED);
+        } else {
+            clientMetrics.accept();
+        }
+
+        if (!globalBucket.tryAcquire()) {
+            globalMetrics.reject();
+            return reject(response, HttpStatus.TOO_MANY_REQUESTS, GLOBAL_RATE_LIMIT_EXCEEDED);
+        }
+        globalMetrics.accept();
+
+        if (!inFlight.tryAcquire()) {
+            inFlightMetrics.reject();
+            return reject(response, HttpStatus.SERVICE_UNAVAILABLE, TOO_MANY_MUTATIONS_IN_FLIGHT);
+        }
+        inFlightMetrics.accept();
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            inFlight.release();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("client", clientMetrics);
+        metrics.put("global", globalMetrics);
+        metrics.put("inFlight", inFlightMetrics);
+        metrics.put("trackedClients", trackedClients.get());
+        metrics.put("untrackedWrites", untrackedWrites.sum());
+        metrics.put("mutationsInFlight", maxInFlight - inFlight.availablePermits());
+        return metrics;
+    }
+
+    /**
+     * Bucket of the client, or {@code null} if the client is not tracked because the bound is reached.
+     */
+    private TokenBucket clientBucket(String clientId) {
+        TokenBucket bucket = clientBuckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (!reserveTrackedClient()) {
+            sweepIdleClients();
+            if (!reserveTrackedClient()) {
+                return null;
+            }
+        }
+        TokenBucket created = new TokenBucket(clientRate, clientBurst, nanoClock);
+        bucket = clientBuckets.putIfAbsent(clientId, created);
+        if (bucket != null) {
+            //Another request of the same client added it first
+            trackedClients.decrementAndGet();
+            return bucket;
+        }
+        return created;
+    }
+
+    private boolean reserveTrackedClient() {
+        int tracked;
+        do {
+            tracked = trackedClients.get();
+            if (tracked >= maxTrackedClients) {
+                return false;
+            }
+        } while (!trackedClients.compareAndSet(tracked, tracked + 1));
+        return true;
+    }
+
+    //Forget idle clients: a full bucket behaves exactly like a newly created one. Only one request sweeps,
+    //and only once per sweep interval, so a stream of new clients at the bound costs O(1) per request
+    private void sweepIdleClients() {
+        long now = nanoClock.getAsLong();
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + sweepIntervalNanos)) {
+            return;
+        }
+        for (Map.Entry<String, TokenBucket> entry : clientBuckets.entrySet()) {
+            if (entry.getValue().isFull() && clientBuckets.remove(entry.getKey(), entry.getValue())) {
+                trackedClients.decrementAndGet();
+            }
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        //The header is chosen by the client, it identifies clients only behind a proxy that sets it
+        if (trustClientIdHeader) {
+            String clientId = request.getHeader(CLIENT_ID_HEADER);
+            if (StringUtils.hasText(clientId)) {
+                return clientId;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.POST.matches(method) || HttpMethod.PUT.matches(method) || HttpMethod.DELETE.matches(method);
+    }
+
+    private static boolean reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+        return false;
+    }
+}
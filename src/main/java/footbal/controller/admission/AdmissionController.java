@@ -0,0 +1,22 @@
+package footbal.controller.admission;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/vk/scoreboard/admission")
+public class AdmissionController {
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    public AdmissionController(AdmissionControlInterceptor admissionControlInterceptor) {
+        this.admissionControlInterceptor = admissionControlInterceptor;
+    }
+
+    @GetMapping("/metrics")
+    public Map<String, Object> getMetrics() {
+        return admissionControlInterceptor.getMetrics();
+    }
+}
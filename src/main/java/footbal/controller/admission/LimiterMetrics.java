@@ -0,0 +1,27 @@
+package footbal.controller.admission;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accepted/rejected counters of a single limiter. {@link LongAdder} keeps the hot path contention free.
+ */
+public class LimiterMetrics {
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    void accept() {
+        accepted.increment();
+    }
+
+    void reject() {
+        rejected.increment();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,23 @@
+package footbal.controller.jfr;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class RequestRecordingConfiguration implements WebMvcConfigurer {
+    private final RequestRecordingInterceptor requestRecordingInterceptor;
+
+    public RequestRecordingConfiguration(RequestRecordingInterceptor requestRecordingInterceptor) {
+        this.requestRecordingInterceptor = requestRecordingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        //First in the chain, so that the requests rejected by admission control are recorded too
+        registry.addInterceptor(requestRecordingInterceptor)
+                .addPathPatterns("/vk/scoreboard/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,36 @@
+package footbal.controller.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records every scoreboard request as a {@link ScoreboardRequestEvent}. Nothing is allocated unless the event
+ * is enabled in a running flight recording.
+ */
+@Component
+public class RequestRecordingInterceptor implements HandlerInterceptor {
+    static final String EVENT_ATTRIBUTE = RequestRecordingInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ScoreboardRequestEvent event = ScoreboardRequestEvent.start();
+        if (event != null) {
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) instanceof ScoreboardRequestEvent event) {
+            request.removeAttribute(EVENT_ATTRIBUTE);
+            //The mapping pattern keeps the paths of all matches in a single group
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            event.record(request.getMethod(), pattern != null ? pattern.toString() : request.getRequestURI(),
+                    response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package footbal.controller.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One scoreboard HTTP request, split into the time spent in the interceptors and the handler and the time spent
+ * serializing the response body.
+ */
+@Name("footbal.scoreboard.Request")
+@Label("Scoreboard Request")
+@Category("Scoreboard")
+@Description("Scoreboard HTTP request with its handler and serialization phases")
+@StackTrace(false)
+public final class ScoreboardRequestEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(ScoreboardRequestEvent.class);
+
+    @Label("Method")
+    private String method;
+
+    @Label("Path")
+    @Description("Request mapping pattern, or the URI if no handler matched")
+    private String path;
+
+    @Label("Status")
+    private int status;
+
+    @Label("Handler")
+    @Timespan(Timespan.NANOSECONDS)
+    private long handler;
+
+    @Label("Serialization")
+    @Timespan(Timespan.NANOSECONDS)
+    private long serialization;
+
+    //Transient fields are not recorded
+    private transient long startNanos;
+    private transient long bodyWriteNanos;
+
+    /**
+     * Begins a request event, or returns {@code null} without allocating anything if no recording enables it.
+     */
+    public static ScoreboardRequestEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        ScoreboardRequestEvent event = new ScoreboardRequestEvent();
+        event.begin();
+        event.startNanos = System.nanoTime();
+        return event;
+    }
+
+    /**
+     * Marks the end of the handler, the response body is serialized from now on.
+     */
+    public void bodyWriting() {
+        bodyWriteNanos = System.nanoTime();
+    }
+
+    /**
+     * Ends the event and commits it if it passes the recording settings.
+     */
+    public void record(String method, String path, int status) {
+        end();
+        if (shouldCommit()) {
+            long endNanos = System.nanoTime();
+            this.method = method;
+            this.path = path;
+            this.status = status;
+            if (bodyWriteNanos == 0) {
+                this.handler = endNanos - startNanos;
+            } else {
+                this.handler = bodyWriteNanos - startNanos;
+                this.serialization = endNanos - bodyWriteNanos;
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package footbal.scoreboard;
+
+/**
+ * A single change of the scoreboard, stamped with the version that introduced it.
+ * {@code match} is the state of the match after the change (before it, for {@link Type#FINISHED}),
+ * and is {@code null} for {@link Type#RESET}.
+ */
+public record Change(long version, Type type, Match match) {
+
+    public enum Type {
+        STARTED,
+        //The score changed but the total score, and therefore the ranking, did not
+        UPDATED,
+        //The total score changed, so the match moved in the ranking
+        RERANKED,
+        //The match clock moved the match to its next period
+        PERIOD_CHANGED,
+        FINISHED,
+        RESET
+    }
+}
@@ -0,0 +1,53 @@
+package footbal.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded log of the changes of the last {@code capacity} scoreboard versions.
+ * <p>
+ * The log is a ring indexed by version. It is appended to by the (single, serialized) writer before the
+ * corresponding snapshot is published, and read without locks: a reader that finds a slot holding another
+ * version knows that the version it asked for has been evicted.
+ */
+public class ChangeLog {
+    private final AtomicReferenceArray<ChangeSet> ring;
+
+    public ChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Change log capacity must be positive.");
+        }
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void append(long version, List<Change> changes) {
+        ring.set(slot(version), new ChangeSet(version, changes));
+    }
+
+    /**
+     * Returns the changes of versions {@code since + 1} up to and including {@code version}, or {@code null}
+     * when some of them are no longer in the log and the reader has to fetch a full snapshot instead.
+     */
+    public List<Change> since(long since, long version) {
+        if (since < 0 || since > version || version - since > ring.length()) {
+            return null;
+        }
+        List<Change> changes = new ArrayList<>();
+        for (long v = since + 1; v <= version; v++) {
+            ChangeSet changeSet = ring.get(slot(v));
+            if (changeSet == null || changeSet.version() != v) {
+                return null;
+            }
+            changes.addAll(changeSet.changes());
+        }
+        return changes;
+    }
+
+    private int slot(long version) {
+        return (int) (version % ring.length());
+    }
+
+    private record ChangeSet(long version, List<Change> changes) {
+    }
+}
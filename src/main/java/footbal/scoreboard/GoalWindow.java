@@ -0,0 +1,57 @@
+package footbal.scoreboard;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of goals per minute, kept in a ring of one bucket per minute.
+ * <p>
+ * A bucket is recycled when a goal is recorded in a new minute, so recording is O(1) and summing is
+ * O(window), both independent of the number of matches. Only one thread records at a time (the scoreboard
+ * writer), readers sum without locks and may miss a goal that is being recorded concurrently.
+ */
+public final class GoalWindow {
+    public static final int MAX_MINUTES = 60;
+
+    //One extra bucket, so that the current (partial) minute never overwrites the oldest full one in the window
+    private final AtomicLongArray minutes = new AtomicLongArray(MAX_MINUTES + 1);
+    private final AtomicLongArray goals = new AtomicLongArray(MAX_MINUTES + 1);
+
+    public GoalWindow() {
+        clear();
+    }
+
+    public void record(long epochMinute, long delta) {
+        int bucket = bucket(epochMinute);
+        if (minutes.get(bucket) != epochMinute) {
+            goals.set(bucket, 0);
+            minutes.set(bucket, epochMinute);
+        }
+        goals.addAndGet(bucket, delta);
+    }
+
+    /**
+     * Goals recorded in the current minute and the {@code windowMinutes - 1} minutes before it.
+     */
+    public long sum(long epochMinute, int windowMinutes) {
+        int window = Math.max(1, Math.min(windowMinutes, MAX_MINUTES));
+        long total = 0;
+        for (long minute = epochMinute - window + 1; minute <= epochMinute; minute++) {
+            int bucket = bucket(minute);
+            if (minutes.get(bucket) == minute) {
+                total += goals.get(bucket);
+            }
+        }
+        return total;
+    }
+
+    public void clear() {
+        for (int i = 0; i < minutes.length(); i++) {
+            minutes.set(i, Long.MIN_VALUE);
+            goals.set(i, 0);
+        }
+    }
+
+    private int bucket(long epochMinute) {
+        return (int) Math.floorMod(epochMinute, (long) minutes.length());
+    }
+}
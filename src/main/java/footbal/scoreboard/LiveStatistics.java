@@ -0,0 +1,8 @@
+package footbal.scoreboard;
+
+/**
+ * Aggregates over the matches in play. {@code highestScoringMatch} is {@code null} when no match is in play.
+ */
+public record LiveStatistics(long matchesInPlay, long totalGoals, long draws, Match highestScoringMatch,
+                             int windowMinutes, long goalsInWindow) {
+}
@@ -1,20 +1,54 @@
 package footbal.scoreboard;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class Match {
+//Match is immutable: a score update produces a new Match, so a published scoreboard snapshot never changes
+//underneath a reader (e.g. while it is being serialized) and home/away scores are always read as a consistent pair.
+public final class Match {
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    //Stable identity of the match across score updates; ids grow with the start order
+    private final long id;
     private final String homeTeam;
     private final String awayTeam;
-    //AtomicInteger allows safe increment and read operations without the need for synchronization.
-    private final AtomicInteger homeScore = new AtomicInteger(0);
-    private final AtomicInteger awayScore = new AtomicInteger(0);
+    private final int homeScore;
+    private final int awayScore;
     private final LocalDateTime startTime;
+    //Time of the last score update, the start time until the first one
+    private final LocalDateTime updatedAt;
+    //Match clock: current period, added time announced for it and when it ends (added time included),
+    //null if the match is not timed
+    private final MatchClock.Period period;
+    private final int addedMinutes;
+    private final Instant periodEndsAt;
 
     public Match(String homeTeam, String awayTeam) {
+        this(homeTeam, awayTeam, null);
+    }
+
+    public Match(String homeTeam, String awayTeam, Instant periodEndsAt) {
+        this(SEQUENCE.incrementAndGet(), homeTeam, awayTeam, 0, 0, LocalDateTime.now(), null, MatchClock.Period.FIRST_HALF, 0, periodEndsAt);
+    }
+
+    private Match(long id, String homeTeam, String awayTeam, int homeScore, int awayScore, LocalDateTime startTime,
+                  LocalDateTime updatedAt, MatchClock.Period period, int addedMinutes, Instant periodEndsAt) {
+        this.id = id;
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.startTime = LocalDateTime.now();
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.startTime = startTime;
+        this.updatedAt = updatedAt == null ? startTime : updatedAt;
+        this.period = period;
+        this.addedMinutes = addedMinutes;
+        this.periodEndsAt = periodEndsAt;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public String getHomeTeam() {
@@ -25,33 +59,55 @@ public class Match {
         return awayTeam;
     }
 
-    private void setHomeScore(int score) {
-        homeScore.set(score);
-    }
-
-    private void setAwayScore(int score) {
-        awayScore.set(score);
-    }
-
     public int getHomeScore() {
-        return homeScore.get();
+        return homeScore;
     }
 
     public int getAwayScore() {
-        return awayScore.get();
+        return awayScore;
     }
 
     public LocalDateTime getStartTime() {
         return startTime;
     }
 
-    public void updateScore(int homeScore, int awayScore) {
-        setHomeScore(homeScore);
-        setAwayScore(awayScore);
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public MatchClock.Period getPeriod() {
+        return period;
+    }
+
+    public int getAddedMinutes() {
+        return addedMinutes;
+    }
+
+    public Instant getPeriodEndsAt() {
+        return periodEndsAt;
+    }
+
+    public Match withScore(int homeScore, int awayScore) {
+        return new Match(id, homeTeam, awayTeam, homeScore, awayScore, startTime, LocalDateTime.now(), period, addedMinutes, periodEndsAt);
+    }
+
+    /**
+     * Moves the match to the next period, without added time.
+     */
+    public Match withPeriod(MatchClock.Period period, Instant periodEndsAt) {
+        return new Match(id, homeTeam, awayTeam, homeScore, awayScore, startTime, updatedAt, period, 0, periodEndsAt);
+    }
+
+    /**
+     * Replaces the added time of the current period, moving its end accordingly.
+     */
+    public Match withAddedMinutes(int addedMinutes) {
+        Instant endsAt = periodEndsAt == null ? null : periodEndsAt.plus(Duration.ofMinutes(addedMinutes - this.addedMinutes));
+        return new Match(id, homeTeam, awayTeam, homeScore, awayScore, startTime, updatedAt, period, addedMinutes, endsAt);
     }
 
     public int getTotalScore() {
-        return getHomeScore() + getAwayScore();
+        return homeScore + awayScore;
     }
 
     @Override
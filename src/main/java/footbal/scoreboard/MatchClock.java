@@ -0,0 +1,77 @@
+package footbal.scoreboard;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Configured length of the periods of a match. Every match goes through the periods in order and is finished
+ * when its last period ends; added time announced during a half extends that half only.
+ */
+public record MatchClock(Duration halfLength, Duration halfTimeBreak) {
+    public static final MatchClock STANDARD = new MatchClock(Duration.ofMinutes(45), Duration.ofMinutes(15));
+
+    public MatchClock {
+        if (halfLength == null || halfTimeBreak == null || halfLength.isNegative() || halfLength.isZero() || halfTimeBreak.isNegative()) {
+            throw new IllegalArgumentException("Half length must be positive and half-time break cannot be negative.");
+        }
+    }
+
+    public enum Period {
+        FIRST_HALF,
+        HALF_TIME,
+        SECOND_HALF;
+
+        /**
+         * The period that follows this one, or {@code null} if the match is over after it.
+         */
+        public Period next() {
+            return this == SECOND_HALF ? null : values()[ordinal() + 1];
+        }
+
+        public boolean isPlaying() {
+            return this != HALF_TIME;
+        }
+    }
+
+    public Duration lengthOf(Period period) {
+        return period.isPlaying() ? halfLength : halfTimeBreak;
+    }
+
+    /**
+     * Minute of play as shown on a scoreboard: 1 during the first minute, and the last minute of the half plus
+     * {@code added} minutes during added time (45+2). The half-time break is not counted, a change during the break
+     * is at the end of the first half.
+     */
+    public record Minute(int minute, int added) {
+    }
+
+    /**
+     * Minute of play of the match at the given time, derived from its current period.
+     */
+    public Minute minuteOf(Match match, Instant at) {
+        long half = halfLength.toMinutes();
+        if (match.getPeriodEndsAt() == null) {
+            //Not timed, the minutes since kick-off are all there is
+            long played = Duration.between(match.getStartTime(), LocalDateTime.ofInstant(at, ZoneId.systemDefault())).toMinutes();
+            return new Minute((int) Math.max(0, played) + 1, 0);
+        }
+        if (!match.getPeriod().isPlaying()) {
+            return new Minute((int) half, 0);
+        }
+        long offset = match.getPeriod() == Period.FIRST_HALF ? 0 : half;
+        Instant periodStart = match.getPeriodEndsAt().minus(Duration.ofMinutes(match.getAddedMinutes())).minus(halfLength);
+        long played = Math.max(0, Duration.between(periodStart, at).toMinutes()) + 1;
+        return played > half
+                ? new Minute((int) (offset + half), (int) (played - half))
+                : new Minute((int) (offset + played), 0);
+    }
+
+    /**
+     * Length of a match without added time.
+     */
+    public Duration getDuration() {
+        return halfLength.multipliedBy(2).plus(halfTimeBreak);
+    }
+}
@@ -0,0 +1,221 @@
+package footbal.scoreboard;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable, persistent list backed by a size-augmented AVL tree.
+ * <p>
+ * Every "modifying" operation returns a new list in O(log n) time and shares all untouched nodes with the
+ * previous version, so older versions stay valid and can be read concurrently without any synchronization.
+ * The {@link java.util.List} mutators inherited from {@link AbstractList} throw {@link UnsupportedOperationException}.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Builds a perfectly balanced list with the elements of the collection in O(n).
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        Object[] values = elements.toArray();
+        return new PersistentList<>(build((E[]) values, 0, values.length));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a new list with the element appended at the end.
+     */
+    public PersistentList<E> plus(E value) {
+        return new PersistentList<>(insert(root, size(), value));
+    }
+
+    /**
+     * Returns a new list with the element at the given index replaced.
+     */
+    public PersistentList<E> with(int index, E value) {
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, value));
+    }
+
+    /**
+     * Returns a new list without the element at the given index.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(delete(root, index));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static <E> Node<E> build(E[] values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(values, from, middle), values[middle], build(values, middle + 1, to));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E value) {
+        if (node == null) {
+            return new Node<>(null, value, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, value), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, value));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, value), node.value, node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, value));
+        }
+        return new Node<>(node.left, value, node.right);
+    }
+
+    private static <E> Node<E> delete(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(delete(node.left, index), node.value, node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.left, node.value, delete(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        //Replace the removed node with its in-order successor
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, delete(node.right, 0));
+    }
+
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> stack = new ArrayDeque<>();
+
+        private InOrderIterator(Node<E> root) {
+            pushLeft(root);
+        }
+
+        private void pushLeft(Node<E> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = stack.pop();
+            pushLeft(node.right);
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package footbal.scoreboard;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Secondary ranking indexes, one sorted set per {@link RankingOrder}, created on first use and then maintained
+ * incrementally: every start, update and finish costs O(log n) per created index, and reading an order never sorts.
+ * <p>
+ * Only one thread may change the indexes at a time (the scoreboard writer). Readers copy an index without locking
+ * and validate the copy against a sequence counter that is odd while the indexes are being changed (seqlock).
+ */
+public class RankingIndexes {
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 8;
+
+    private final ConcurrentHashMap<RankingOrder, ConcurrentSkipListSet<Match>> indexes = new ConcurrentHashMap<>();
+    private volatile long sequence;
+
+    public boolean contains(RankingOrder order) {
+        return indexes.containsKey(order);
+    }
+
+    /**
+     * Creates the index of the order from the current matches, if it does not exist yet.
+     */
+    public void create(RankingOrder order, Iterable<Match> matches) {
+        if (indexes.containsKey(order)) {
+            return;
+        }
+        ConcurrentSkipListSet<Match> index = new ConcurrentSkipListSet<>(order.getComparator());
+        matches.forEach(index::add);
+        indexes.put(order, index);
+    }
+
+    public void started(Match match) {
+        sequence++;
+        for (ConcurrentSkipListSet<Match> index : indexes.values()) {
+            index.add(match);
+        }
+        sequence++;
+    }
+
+    public void updated(Match current, Match updated) {
+        sequence++;
+        for (ConcurrentSkipListSet<Match> index : indexes.values()) {
+            index.remove(current);
+            index.add(updated);
+        }
+        sequence++;
+    }
+
+    public void finished(Match match) {
+        sequence++;
+        for (ConcurrentSkipListSet<Match> index : indexes.values()) {
+            index.remove(match);
+        }
+        sequence++;
+    }
+
+    public void clear() {
+        sequence++;
+        indexes.values().forEach(ConcurrentSkipListSet::clear);
+        sequence++;
+    }
+
+    /**
+     * Consistent copy of an existing index, or {@code null} if the writer kept changing the indexes while copying;
+     * the caller then has to {@link #copy(RankingOrder) copy} it while no writer runs.
+     */
+    public List<Match> tryCopy(RankingOrder order) {
+        for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+            long before = sequence;
+            if ((before & 1) == 0) {
+                List<Match> copy = List.copyOf(indexes.get(order));
+                if (sequence == before) {
+                    return copy;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        return null;
+    }
+
+    /**
+     * Copy of an existing index, only consistent if no writer runs.
+     */
+    public List<Match> copy(RankingOrder order) {
+        return List.copyOf(indexes.get(order));
+    }
+}
@@ -0,0 +1,38 @@
+package footbal.scoreboard;
+
+import java.util.Comparator;
+
+/**
+ * Orders in which the scoreboard can be ranked. Every order ends with the match id, so that two different
+ * matches never compare as equal.
+ */
+public enum RankingOrder {
+    //Total score, then most recently started first
+    SCORE(ScoreboardSnapshot.SCORE_ORDER),
+    //Largest goal difference first, ties ranked by score
+    GOAL_DIFFERENCE(Comparator.comparingInt((Match match) -> Math.abs(match.getHomeScore() - match.getAwayScore()))
+            .reversed()
+            .thenComparing(ScoreboardSnapshot.SCORE_ORDER)),
+    //Highest home score first, ties ranked by score
+    HOME_SCORE(Comparator.comparingInt(Match::getHomeScore)
+            .reversed()
+            .thenComparing(ScoreboardSnapshot.SCORE_ORDER)),
+    //Most recent score update (or start, for matches without any) first
+    RECENTLY_UPDATED(Comparator.comparing(Match::getUpdatedAt)
+            .thenComparingLong(Match::getId)
+            .reversed()),
+    //Alphabetical by home team and then away team
+    TEAM_NAME(Comparator.comparing(Match::getHomeTeam)
+            .thenComparing(Match::getAwayTeam)
+            .thenComparingLong(Match::getId));
+
+    private final Comparator<Match> comparator;
+
+    RankingOrder(Comparator<Match> comparator) {
+        this.comparator = comparator;
+    }
+
+    public Comparator<Match> getComparator() {
+        return comparator;
+    }
+}
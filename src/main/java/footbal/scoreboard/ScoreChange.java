@@ -0,0 +1,15 @@
+package footbal.scoreboard;
+
+import java.time.Instant;
+
+/**
+ * One entry of a match timeline: the score after the change, the side whose score changed and the minute of play
+ * (see {@link MatchClock.Minute}). A correction lowers a score, e.g. a disallowed goal.
+ */
+public record ScoreChange(Instant at, int minute, int addedMinute, Side side, int homeScore, int awayScore,
+                          boolean correction) {
+
+    public enum Side {
+        HOME, AWAY, BOTH
+    }
+}
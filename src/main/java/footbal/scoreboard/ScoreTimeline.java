@@ -0,0 +1,80 @@
+package footbal.scoreboard;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Score changes of one match, stored as three longs per change in a growable array instead of one object per
+ * change: the time of the change, the minute of play, and the side and resulting score packed together.
+ * <p>
+ * Only the scoreboard writer appends, readers see every change below the published size without locking, because
+ * the array is always replaced before the size is raised.
+ */
+public final class ScoreTimeline {
+    private static final long[] EMPTY = new long[0];
+    private static final int STRIDE = 3;
+    private static final int INITIAL_CHANGES = 4;
+    private static final int SCORE_BITS = 31;
+    private static final long SCORE_MASK = (1L << SCORE_BITS) - 1;
+    private static final ScoreChange.Side[] SIDES = ScoreChange.Side.values();
+
+    private volatile long[] changes = EMPTY;
+    private volatile int size;
+
+    /**
+     * Appends the change from the previous to the new score.
+     */
+    public void record(long atMillis, MatchClock.Minute minute, int previousHome, int previousAway, int homeScore, int awayScore) {
+        int index = size;
+        long[] current = changes;
+        if ((index + 1) * STRIDE > current.length) {
+            current = Arrays.copyOf(current, Math.max(INITIAL_CHANGES, index * 2) * STRIDE);
+            changes = current;
+        }
+        ScoreChange.Side side = homeScore == previousHome ? ScoreChange.Side.AWAY
+                : awayScore == previousAway ? ScoreChange.Side.HOME : ScoreChange.Side.BOTH;
+        int offset = index * STRIDE;
+        current[offset] = atMillis;
+        current[offset + 1] = ((long) minute.minute() << Integer.SIZE) | minute.added();
+        current[offset + 2] = ((long) side.ordinal() << (2 * SCORE_BITS)) | ((long) homeScore << SCORE_BITS) | awayScore;
+        size = index + 1;
+    }
+
+    /**
+     * The changes up to and including the given minute of play (added time of a half counts as its last minute).
+     */
+    public List<ScoreChange> getChanges(int upToMinute) {
+        int count = size;
+        long[] current = changes;
+        //Released concurrently: the array may already be empty
+        count = Math.min(count, current.length / STRIDE);
+        List<ScoreChange> timeline = new ArrayList<>(count);
+        int previousHome = 0;
+        int previousAway = 0;
+        for (int i = 0; i < count; i++) {
+            int offset = i * STRIDE;
+            int minute = (int) (current[offset + 1] >>> Integer.SIZE);
+            long packed = current[offset + 2];
+            int homeScore = (int) ((packed >>> SCORE_BITS) & SCORE_MASK);
+            int awayScore = (int) (packed & SCORE_MASK);
+            if (minute <= upToMinute) {
+                timeline.add(new ScoreChange(Instant.ofEpochMilli(current[offset]), minute, (int) current[offset + 1],
+                        SIDES[(int) (packed >>> (2 * SCORE_BITS))], homeScore, awayScore,
+                        homeScore < previousHome || awayScore < previousAway));
+            }
+            previousHome = homeScore;
+            previousAway = awayScore;
+        }
+        return timeline;
+    }
+
+    /**
+     * Frees the changes once the match is over; the timeline is empty from then on.
+     */
+    public void release() {
+        size = 0;
+        changes = EMPTY;
+    }
+}
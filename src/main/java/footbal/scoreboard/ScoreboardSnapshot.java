@@ -0,0 +1,80 @@
+package footbal.scoreboard;
+
+import footbal.scoreboard.jfr.ScoreboardPhaseEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, versioned view of the scoreboard.
+ * <p>
+ * A snapshot is never modified after it has been published, so it can be handed out to any number of readers
+ * without copying. The sorted order and the formatted summary are derived lazily, at most once per version.
+ */
+public final class ScoreboardSnapshot {
+    public static final Comparator<Match> SCORE_ORDER = Comparator.comparingInt(Match::getTotalScore)
+            .reversed()
+            .thenComparing(Comparator.comparing(Match::getStartTime).reversed())
+            .thenComparing(Comparator.comparingLong(Match::getId).reversed());
+
+    private static final ScoreboardSnapshot EMPTY = new ScoreboardSnapshot(0, PersistentList.empty());
+
+    private final long version;
+    private final PersistentList<Match> matches;
+    //Derived views, lazily computed by the first reader. Racing readers compute identical immutable lists,
+    //so a plain (non-volatile) field is enough: the lists only contain final fields and immutable matches.
+    private List<Match> sortedMatches;
+    private List<String> summary;
+
+    private ScoreboardSnapshot(long version, PersistentList<Match> matches) {
+        this.version = version;
+        this.matches = matches;
+    }
+
+    public static ScoreboardSnapshot empty() {
+        return EMPTY;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public PersistentList<Match> getMatches() {
+        return matches;
+    }
+
+    public static ScoreboardSnapshot of(long version, PersistentList<Match> matches) {
+        return new ScoreboardSnapshot(version, matches);
+    }
+
+    public List<Match> getSortedMatches() {
+        List<Match> sorted = sortedMatches;
+        if (sorted == null) {
+            ScoreboardPhaseEvent event = ScoreboardPhaseEvent.start();
+            ArrayList<Match> copy = new ArrayList<>(matches);
+            copy.sort(SCORE_ORDER);
+            sorted = Collections.unmodifiableList(copy);
+            sortedMatches = sorted;
+            ScoreboardPhaseEvent.record(event, ScoreboardPhaseEvent.SORT, copy.size());
+        }
+        return sorted;
+    }
+
+    public List<String> getSummary() {
+        List<String> formatted = summary;
+        if (formatted == null) {
+            List<Match> sorted = getSortedMatches();
+            ScoreboardPhaseEvent event = ScoreboardPhaseEvent.start();
+            ArrayList<String> lines = new ArrayList<>(sorted.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                lines.add((i + 1) + ". " + sorted.get(i));
+            }
+            formatted = Collections.unmodifiableList(lines);
+            summary = formatted;
+            ScoreboardPhaseEvent.record(event, ScoreboardPhaseEvent.FORMAT, lines.size());
+        }
+        return formatted;
+    }
+}
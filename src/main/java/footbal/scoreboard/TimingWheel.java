@@ -0,0 +1,189 @@
+package footbal.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: timers are hashed by deadline into the buckets of a few wheels of growing
+ * resolution, each bucket being a doubly linked list.
+ * <p>
+ * Scheduling and cancelling a timer are O(1) whatever the number of timers. Time only moves when
+ * {@link #advanceTo(long)} is called: every tick expires one bucket of the finest wheel, and a bucket of a coarser
+ * wheel is cascaded (its timers re-hashed into the finer wheels) each time the finer wheel completes a turn.
+ * Timers farther away than the coarsest wheel can reach are parked in its last bucket and re-hashed from there.
+ * <p>
+ * Not thread-safe: the owner has to serialize all calls.
+ */
+public final class TimingWheel<T> {
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int levels;
+    private final Bucket<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelBits, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelBits <= 0 || levels <= 0 || (long) wheelBits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = wheelBits;
+        this.levels = levels;
+        //Generic arrays cannot be created, the raw array only ever holds Bucket<T>
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Bucket<T>[][] buckets = new Bucket[levels][1 << wheelBits];
+        this.wheels = buckets;
+        for (Bucket<T>[] wheel : wheels) {
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules the task to expire at the first tick at or after the deadline; deadlines in the past expire
+     * at the next tick.
+     */
+    public Timeout<T> schedule(long deadlineMillis, T task) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(deadlineTick * tickMillis, deadlineTick, task);
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels the timer, returns {@code false} if it has already expired or been cancelled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the time forward and returns the tasks of the expired timers, in deadline order.
+     */
+    public List<T> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                //Nothing to cascade or expire on the way
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            //Cascade the coarse wheels first, their timers may land in the bucket expiring at this tick
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (level * wheelBits)) - 1)) == 0) {
+                    cascade(wheels[level][slot(currentTick, level)]);
+                }
+            }
+            Bucket<T> bucket = wheels[0][slot(currentTick, 0)];
+            for (Timeout<T> timeout = bucket.head.next; timeout != bucket.head; ) {
+                Timeout<T> next = timeout.next;
+                timeout.unlink();
+                size--;
+                expired.add(timeout.task);
+                timeout = next;
+            }
+        }
+        return expired;
+    }
+
+    public void clear() {
+        for (Bucket<T>[] wheel : wheels) {
+            for (Bucket<T> bucket : wheel) {
+                while (bucket.head.next != bucket.head) {
+                    bucket.head.next.unlink();
+                }
+            }
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        for (Timeout<T> timeout = bucket.head.next; timeout != bucket.head; ) {
+            Timeout<T> next = timeout.next;
+            timeout.unlink();
+            insert(timeout);
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long ticks = timeout.deadlineTick - currentTick;
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(ticks)) / wheelBits;
+        long placementTick = timeout.deadlineTick;
+        if (level >= levels) {
+            level = levels - 1;
+            placementTick = currentTick + (1L << (levels * wheelBits)) - 1;
+        }
+        wheels[level][slot(placementTick, level)].add(timeout);
+    }
+
+    private int slot(long tick, int level) {
+        return (int) ((tick >>> (level * wheelBits)) & ((1 << wheelBits) - 1));
+    }
+
+    /**
+     * Handle of a scheduled timer.
+     */
+    public static final class Timeout<T> {
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private final T task;
+        private Bucket<T> bucket;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(long deadlineMillis, long deadlineTick, T task) {
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public T getTask() {
+            return task;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+            bucket = null;
+        }
+    }
+
+    private static final class Bucket<T> {
+        //Sentinel of a circular list, so that linking and unlinking never have to check for the ends
+        private final Timeout<T> head = new Timeout<>(0, 0, null);
+
+        private Bucket() {
+            head.previous = head;
+            head.next = head;
+        }
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.previous = head.previous;
+            timeout.next = head;
+            head.previous.next = timeout;
+            head.previous = timeout;
+        }
+    }
+}
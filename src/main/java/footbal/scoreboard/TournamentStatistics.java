@@ -0,0 +1,110 @@
+package footbal.scoreboard;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live tournament statistics, maintained incrementally from the delta of every start, score update and finish,
+ * so that reading them never touches the matches themselves.
+ * <p>
+ * Counters are {@link LongAdder}s (striped, so concurrent updates and reads do not contend on one cache line),
+ * the highest-scoring match is the head of a set kept in score order, and recent goals are counted per minute
+ * in a {@link GoalWindow}.
+ */
+public class TournamentStatistics {
+    private final Clock clock;
+    private final LongAdder matchesInPlay = new LongAdder();
+    private final LongAdder totalGoals = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> teamGoals = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Match> byScore = new ConcurrentSkipListSet<>(ScoreboardSnapshot.SCORE_ORDER);
+    private final GoalWindow goalWindow = new GoalWindow();
+
+    public TournamentStatistics() {
+        this(Clock.systemUTC());
+    }
+
+    public TournamentStatistics(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void started(Match match) {
+        matchesInPlay.increment();
+        teamGoals.computeIfAbsent(match.getHomeTeam(), team -> new LongAdder()).add(match.getHomeScore());
+        teamGoals.computeIfAbsent(match.getAwayTeam(), team -> new LongAdder()).add(match.getAwayScore());
+        totalGoals.add(match.getTotalScore());
+        if (isDraw(match)) {
+            draws.increment();
+        }
+        byScore.add(match);
+    }
+
+    public void updated(Match current, Match updated) {
+        int homeDelta = updated.getHomeScore() - current.getHomeScore();
+        int awayDelta = updated.getAwayScore() - current.getAwayScore();
+        teamGoals.computeIfAbsent(updated.getHomeTeam(), team -> new LongAdder()).add(homeDelta);
+        teamGoals.computeIfAbsent(updated.getAwayTeam(), team -> new LongAdder()).add(awayDelta);
+        totalGoals.add(homeDelta + awayDelta);
+        //Corrections are counted as negative goals, so a disallowed goal does not linger in the window
+        goalWindow.record(currentMinute(), homeDelta + awayDelta);
+        draws.add((isDraw(updated) ? 1 : 0) - (isDraw(current) ? 1 : 0));
+        byScore.remove(current);
+        byScore.add(updated);
+    }
+
+    public void finished(Match match) {
+        matchesInPlay.decrement();
+        teamGoals.computeIfAbsent(match.getHomeTeam(), team -> new LongAdder()).add(-match.getHomeScore());
+        teamGoals.computeIfAbsent(match.getAwayTeam(), team -> new LongAdder()).add(-match.getAwayScore());
+        totalGoals.add(-match.getTotalScore());
+        if (isDraw(match)) {
+            draws.decrement();
+        }
+        byScore.remove(match);
+    }
+
+    /**
+     * Drops the per-team counter of a team that no longer plays in any match.
+     */
+    public void forgetTeam(String team) {
+        teamGoals.remove(team);
+    }
+
+    public void clear() {
+        matchesInPlay.reset();
+        totalGoals.reset();
+        draws.reset();
+        teamGoals.clear();
+        byScore.clear();
+        goalWindow.clear();
+    }
+
+    public LiveStatistics getStatistics(int windowMinutes) {
+        int window = Math.max(1, Math.min(windowMinutes, GoalWindow.MAX_MINUTES));
+        //The iterator never fails, even if the last match is finished concurrently
+        Iterator<Match> highestFirst = byScore.iterator();
+        Match highest = highestFirst.hasNext() ? highestFirst.next() : null;
+        return new LiveStatistics(matchesInPlay.sum(), totalGoals.sum(), draws.sum(), highest,
+                window, goalWindow.sum(currentMinute(), window));
+    }
+
+    /**
+     * Goals of the team in the matches it is playing, or {@code null} if it is not playing.
+     */
+    public Long getTeamGoals(String team) {
+        LongAdder goals = teamGoals.get(team);
+        return goals == null ? null : goals.sum();
+    }
+
+    private long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+    }
+
+    private static boolean isDraw(Match match) {
+        return match.getHomeScore() == match.getAwayScore();
+    }
+}
@@ -0,0 +1,78 @@
+package footbal.scoreboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One scoreboard mutation, split into the time spent waiting for the writer (lock or writer thread)
+ * and the time spent applying the mutation and publishing the new version.
+ */
+@Name("footbal.scoreboard.Operation")
+@Label("Scoreboard Operation")
+@Category("Scoreboard")
+@Description("Scoreboard mutation with its writer wait and apply phases")
+@StackTrace(false)
+public final class ScoreboardOperationEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(ScoreboardOperationEvent.class);
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Engine")
+    private String engine;
+
+    @Label("Batch Size")
+    @Description("Matches affected by the operation")
+    private int batchSize;
+
+    @Label("Match Count")
+    @Description("Matches on the scoreboard after the operation")
+    private int matchCount;
+
+    @Label("Version")
+    private long version;
+
+    @Label("Writer Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long writerWait;
+
+    @Label("Apply")
+    @Timespan(Timespan.NANOSECONDS)
+    private long apply;
+
+    /**
+     * Whether a running recording enables the event; checked before creating one, so that nothing is allocated
+     * otherwise.
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * Called by the writer once the mutation has been applied.
+     */
+    public void applied(long writerWaitNanos, long applyNanos, int batchSize, int matchCount, long version) {
+        this.writerWait = writerWaitNanos;
+        this.apply = applyNanos;
+        this.batchSize = batchSize;
+        this.matchCount = matchCount;
+        this.version = version;
+    }
+
+    /**
+     * Ends the event and commits it if it passes the recording settings.
+     */
+    public void record(String operation, String engine) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.engine = engine;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package footbal.scoreboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One read phase that costs more than a field access: sorting a snapshot, formatting a summary or copying
+ * a ranking index.
+ */
+@Name("footbal.scoreboard.Phase")
+@Label("Scoreboard Phase")
+@Category("Scoreboard")
+@Description("Sorting, formatting or ranking copy of the scoreboard")
+@StackTrace(false)
+public final class ScoreboardPhaseEvent extends jdk.jfr.Event {
+    public static final String SORT = "sort";
+    public static final String FORMAT = "format";
+    public static final String RANKING_COPY = "ranking-copy";
+
+    private static final EventType TYPE = EventType.getEventType(ScoreboardPhaseEvent.class);
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Match Count")
+    private int matchCount;
+
+    /**
+     * Begins a phase event, or returns {@code null} without allocating anything if no recording enables it.
+     */
+    public static ScoreboardPhaseEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        ScoreboardPhaseEvent event = new ScoreboardPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event returned by {@link #start()}, if any, and commits it if it passes the recording settings.
+     */
+    public static void record(ScoreboardPhaseEvent event, String phase, int matchCount) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.matchCount = matchCount;
+            event.commit();
+        }
+    }
+}
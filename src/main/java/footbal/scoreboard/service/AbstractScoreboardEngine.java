@@ -0,0 +1,501 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.Change;
+import footbal.scoreboard.ChangeLog;
+import footbal.scoreboard.LiveStatistics;
+import footbal.scoreboard.Match;
+import footbal.scoreboard.MatchClock;
+import footbal.scoreboard.RankingIndexes;
+import footbal.scoreboard.RankingOrder;
+import footbal.scoreboard.ScoreChange;
+import footbal.scoreboard.ScoreTimeline;
+import footbal.scoreboard.TimingWheel;
+import footbal.scoreboard.TournamentStatistics;
+import footbal.scoreboard.jfr.ScoreboardOperationEvent;
+import footbal.scoreboard.jfr.ScoreboardPhaseEvent;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Validation, team indexes and change log shared by all scoreboard engines.
+ * <p>
+ * Subclasses decide how mutations are serialized ({@link #write(Supplier)}), how matches are stored
+ * (the {@code store*} methods, only ever called from inside {@code write}) and how a new version is made
+ * visible to readers ({@link #publish(long)}).
+ */
+public abstract class AbstractScoreboardEngine implements ScoreboardEngine {
+    //64 buckets per wheel and 4 wheels reach 64^4 ticks (about 194 days with 1 second ticks)
+    private static final int TIMER_WHEEL_BITS = 6;
+    private static final int TIMER_WHEEL_LEVELS = 4;
+
+    //Team indexes, maintained incrementally by the writers: O(1) exact lookup by home or away team
+    //and a sorted set of active team names for prefix search.
+    private final ConcurrentHashMap<String, Match> homeTeams = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Match> awayTeams = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> teamNames = new ConcurrentSkipListSet<>();
+    //Changes of the most recent versions, so that clients can catch up without fetching the whole scoreboard
+    private final ChangeLog changeLog;
+    //Secondary ranking orders, created on first request and then maintained by the writers like the team indexes
+    private final RankingIndexes rankings = new RankingIndexes();
+    //Aggregates maintained from the delta of every mutation
+    private final TournamentStatistics statistics = new TournamentStatistics();
+    //One timer per match for the end of its current period, only accessed by the writer
+    private final MatchClock matchClock;
+    private final TimingWheel<Long> periodTimers;
+    private final Map<Long, TimingWheel.Timeout<Long>> timersByMatch = new HashMap<>();
+    //Score changes by match id, appended by the writer; kept out of Match so that every match version stays immutable
+    private final ConcurrentHashMap<Long, ScoreTimeline> timelines = new ConcurrentHashMap<>();
+    //Last committed version, only accessed by the writer
+    private long writerVersion;
+    private final String engineName = getClass().getSimpleName();
+
+    protected AbstractScoreboardEngine(int changeLogCapacity, MatchClock matchClock) {
+        this.changeLog = new ChangeLog(changeLogCapacity);
+        this.matchClock = matchClock;
+        this.periodTimers = new TimingWheel<>(CLOCK_TICK_MILLIS, TIMER_WHEEL_BITS, TIMER_WHEEL_LEVELS, Instant.now().toEpochMilli());
+    }
+
+    /**
+     * Runs the mutation so that it is serialized with all other mutations, and returns its result.
+     */
+    protected abstract <T> T write(Supplier<T> mutation);
+
+    protected abstract int storedCount();
+
+    protected abstract Match storedMatch(int index);
+
+    /**
+     * Stored match with the given id, or {@code null} if it is not stored.
+     */
+    protected abstract Match storedMatchById(long matchId);
+
+    /**
+     * All stored matches in start order.
+     */
+    protected abstract Iterable<Match> storedMatches();
+
+    protected abstract void storeStarted(Match match);
+
+    /**
+     * Replaces the match; {@code index} is its position, or -1 if the match was looked up by id.
+     */
+    protected abstract void storeUpdated(int index, Match current, Match updated);
+
+    /**
+     * Removes the match; {@code index} is its position, or -1 if the match was looked up by id.
+     */
+    protected abstract void storeFinished(int index, Match finished);
+
+    protected abstract void storeCleared();
+
+    /**
+     * Makes all stored changes visible to readers as the given version.
+     */
+    protected abstract void publish(long version);
+
+    /**
+     * Runs the mutation like {@link #write(Supplier)}, and records it as a {@link ScoreboardOperationEvent}
+     * when the event is enabled in a running flight recording; otherwise it costs a single check.
+     */
+    private <T> T recordedWrite(String operation, ToIntFunction<T> batchSize, Supplier<T> mutation) {
+        if (!ScoreboardOperationEvent.isRecording()) {
+            return write(mutation);
+        }
+        ScoreboardOperationEvent event = new ScoreboardOperationEvent();
+        event.begin();
+        long requested = System.nanoTime();
+        try {
+            return write(() -> {
+                long applying = System.nanoTime();
+                T result = mutation.get();
+                event.applied(applying - requested, System.nanoTime() - applying, batchSize.applyAsInt(result), storedCount(), writerVersion);
+                return result;
+            });
+        } finally {
+            event.record(operation, engineName);
+        }
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        if (!StringUtils.hasText(homeTeam) || !StringUtils.hasText(awayTeam)) {
+            throw new IllegalArgumentException(CANNOT_BE_NULL_OR_EMPTY);
+        }
+
+        recordedWrite("start", match -> 1, () -> {
+            if (homeTeams.containsKey(homeTeam) || awayTeams.containsKey(awayTeam)) {
+                throw new IllegalArgumentException(ALREADY_EXISTS);
+            }
+            Match match = new Match(homeTeam, awayTeam, firstHalfEnd());
+            storeStarted(match);
+            timelines.put(match.getId(), new ScoreTimeline());
+            indexMatch(match);
+            rankings.started(match);
+            statistics.started(match);
+            scheduleTimer(match);
+            commit(List.of(new Change(nextVersion(), Change.Type.STARTED, match)));
+            return match;
+        });
+    }
+
+    @Override
+    public ImportResult importMatches(Stream<Fixture> fixtures) {
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        List<Fixture> accepted = new ArrayList<>();
+        int rejected = 0;
+
+        //Consume the stream before serializing with the writers, it may still be reading the request body
+        for (Iterator<Fixture> iterator = fixtures.iterator(); iterator.hasNext(); ) {
+            Fixture fixture = iterator.next();
+            String error = fixture.error();
+            if (error == null && (!StringUtils.hasText(fixture.homeTeam()) || !StringUtils.hasText(fixture.awayTeam()))) {
+                error = CANNOT_BE_NULL_OR_EMPTY;
+            }
+            if (error == null) {
+                accepted.add(fixture);
+            } else {
+                rejected++;
+                addRowError(errors, fixture.line(), error);
+            }
+        }
+
+        ImportBatch batch = recordedWrite("import", ImportBatch::imported, () -> {
+            List<Match> started = new ArrayList<>(accepted.size());
+            List<Fixture> collided = new ArrayList<>();
+            //Teams of the rows started so far; a rejected row does not take its teams
+            Set<String> batchHomeTeams = new HashSet<>();
+            Set<String> batchAwayTeams = new HashSet<>();
+            Instant firstHalfEnd = firstHalfEnd();
+            for (Fixture fixture : accepted) {
+                if (homeTeams.containsKey(fixture.homeTeam()) || awayTeams.containsKey(fixture.awayTeam())
+                        || batchHomeTeams.contains(fixture.homeTeam()) || batchAwayTeams.contains(fixture.awayTeam())) {
+                    collided.add(fixture);
+                    continue;
+                }
+                batchHomeTeams.add(fixture.homeTeam());
+                batchAwayTeams.add(fixture.awayTeam());
+                Match match = new Match(fixture.homeTeam(), fixture.awayTeam(), firstHalfEnd);
+                storeStarted(match);
+                timelines.put(match.getId(), new ScoreTimeline());
+                started.add(match);
+            }
+            if (!started.isEmpty()) {
+                started.forEach(this::indexMatch);
+                started.forEach(rankings::started);
+                started.forEach(statistics::started);
+                started.forEach(this::scheduleTimer);
+                long version = nextVersion();
+                commit(started.stream().map(match -> new Change(version, Change.Type.STARTED, match)).toList());
+            }
+            return new ImportBatch(started.size(), collided);
+        });
+
+        for (Fixture fixture : batch.collided()) {
+            rejected++;
+            addRowError(errors, fixture.line(), ALREADY_EXISTS);
+        }
+        errors.sort(Comparator.comparingLong(ImportResult.RowError::line));
+        return new ImportResult(batch.imported(), rejected, errors);
+    }
+
+    private record ImportBatch(int imported, List<Fixture> collided) {
+    }
+
+    private static void addRowError(List<ImportResult.RowError> errors, long line, String message) {
+        if (errors.size() < MAX_REPORTED_IMPORT_ERRORS) {
+            errors.add(new ImportResult.RowError(line, message));
+        }
+    }
+
+    @Override
+    public void updateScore(int matchIndex, int homeScore, int awayScore) {
+        recordedWrite("update", match -> 1, () -> {
+            validateMatchIndex(matchIndex);
+
+            if (homeScore < 0 || awayScore < 0) {
+                throw new IllegalArgumentException(CANNOT_BE_NEGATIVE);
+            }
+
+            Match current = storedMatch(matchIndex);
+            Match updated = current.withScore(homeScore, awayScore);
+            Change.Type type = updated.getTotalScore() == current.getTotalScore() ? Change.Type.UPDATED : Change.Type.RERANKED;
+            if (homeScore != current.getHomeScore() || awayScore != current.getAwayScore()) {
+                Instant now = Instant.now();
+                timelines.get(current.getId()).record(now.toEpochMilli(), matchClock.minuteOf(current, now),
+                        current.getHomeScore(), current.getAwayScore(), homeScore, awayScore);
+            }
+            commit(List.of(replace(matchIndex, current, updated, type)));
+            return updated;
+        });
+    }
+
+    @Override
+    public void addTime(int matchIndex, int minutes) {
+        recordedWrite("add-time", match -> 1, () -> {
+            validateMatchIndex(matchIndex);
+
+            if (minutes < 0) {
+                throw new IllegalArgumentException(ADDED_TIME_CANNOT_BE_NEGATIVE);
+            }
+
+            Match current = storedMatch(matchIndex);
+            if (!current.getPeriod().isPlaying()) {
+                throw new IllegalArgumentException(NOT_PLAYING);
+            }
+            Match updated = current.withAddedMinutes(minutes);
+            Change change = replace(matchIndex, current, updated, Change.Type.UPDATED);
+            scheduleTimer(updated);
+            commit(List.of(change));
+            return updated;
+        });
+    }
+
+    @Override
+    public void finishMatch(int index) {
+        recordedWrite("finish", match -> 1, () -> {
+            validateMatchIndex(index);
+            Match finished = storedMatch(index);
+            commit(List.of(finish(index, finished)));
+            return finished;
+        });
+    }
+
+    @Override
+    public void advanceClock(Instant now) {
+        recordedWrite("clock", Integer::intValue, () -> {
+            List<Long> expired = periodTimers.advanceTo(now.toEpochMilli());
+            //All periods ending at this tick are one version, like an import: a half-time for thousands of matches
+            //takes a single slot of the change log
+            List<Change> changes = new ArrayList<>(expired.size());
+            for (Long matchId : expired) {
+                timersByMatch.remove(matchId);
+                Match match = storedMatchById(matchId);
+                if (match != null) {
+                    changes.add(endPeriod(match));
+                }
+            }
+            if (!changes.isEmpty()) {
+                commit(changes);
+            }
+            return expired.size();
+        });
+    }
+
+    //replace and finish apply a change to the store and the indexes, and return it for the caller to commit
+
+    private Change replace(int index, Match current, Match updated, Change.Type type) {
+        storeUpdated(index, current, updated);
+        indexMatch(updated);
+        rankings.updated(current, updated);
+        statistics.updated(current, updated);
+        return new Change(nextVersion(), type, updated);
+    }
+
+    private Change finish(int index, Match finished) {
+        storeFinished(index, finished);
+        rankings.finished(finished);
+        statistics.finished(finished);
+        unindexMatch(finished);
+        cancelTimer(finished);
+        timelines.remove(finished.getId()).release();
+        return new Change(nextVersion(), Change.Type.FINISHED, finished);
+    }
+
+    //Expired matches leave through the same path as matches finished by a client; they are resolved by id,
+    //so that the many timers expiring together at half-time never scan the matches by position
+    private Change endPeriod(Match current) {
+        MatchClock.Period next = current.getPeriod().next();
+        if (next == null) {
+            return finish(-1, current);
+        }
+        //The next period starts when the previous one was due to end, however late the tick came
+        Match updated = current.withPeriod(next, current.getPeriodEndsAt().plus(matchClock.lengthOf(next)));
+        Change change = replace(-1, current, updated, Change.Type.PERIOD_CHANGED);
+        scheduleTimer(updated);
+        return change;
+    }
+
+    private Instant firstHalfEnd() {
+        return Instant.now().plus(matchClock.lengthOf(MatchClock.Period.FIRST_HALF));
+    }
+
+    private void scheduleTimer(Match match) {
+        TimingWheel.Timeout<Long> timer = periodTimers.schedule(match.getPeriodEndsAt().toEpochMilli(), match.getId());
+        TimingWheel.Timeout<Long> previous = timersByMatch.put(match.getId(), timer);
+        if (previous != null) {
+            periodTimers.cancel(previous);
+        }
+    }
+
+    private void cancelTimer(Match match) {
+        TimingWheel.Timeout<Long> timer = timersByMatch.remove(match.getId());
+        if (timer != null) {
+            periodTimers.cancel(timer);
+        }
+    }
+
+    @Override
+    public void reset() {
+        recordedWrite("reset", Integer::intValue, () -> {
+            int cleared = storedCount();
+            storeCleared();
+            timelines.values().forEach(ScoreTimeline::release);
+            timelines.clear();
+            homeTeams.clear();
+            awayTeams.clear();
+            teamNames.clear();
+            rankings.clear();
+            statistics.clear();
+            periodTimers.clear();
+            timersByMatch.clear();
+            commit(List.of(new Change(nextVersion(), Change.Type.RESET, null)));
+            return cleared;
+        });
+    }
+
+    private long nextVersion() {
+        return writerVersion + 1;
+    }
+
+    //Called last by every mutation: the store and all indexes already reflect the changes, and the changes are logged
+    //before the version is published, so a reader that sees a version also sees it in the indexes and in the log
+    private void commit(List<Change> changes) {
+        long version = nextVersion();
+        changeLog.append(version, changes);
+        writerVersion = version;
+        publish(version);
+    }
+
+    private void indexMatch(Match match) {
+        homeTeams.put(match.getHomeTeam(), match);
+        awayTeams.put(match.getAwayTeam(), match);
+        teamNames.add(match.getHomeTeam());
+        teamNames.add(match.getAwayTeam());
+    }
+
+    private void unindexMatch(Match match) {
+        homeTeams.remove(match.getHomeTeam());
+        awayTeams.remove(match.getAwayTeam());
+        //A team may still play the other side of another match
+        if (!awayTeams.containsKey(match.getHomeTeam())) {
+            teamNames.remove(match.getHomeTeam());
+            statistics.forgetTeam(match.getHomeTeam());
+        }
+        if (!homeTeams.containsKey(match.getAwayTeam())) {
+            teamNames.remove(match.getAwayTeam());
+            statistics.forgetTeam(match.getAwayTeam());
+        }
+    }
+
+    private void validateMatchIndex(int index) {
+        if (index < 0 || index >= storedCount()) {
+            throw new IndexOutOfBoundsException(MATCH_INDEX_IS_OUT_OF_RANGE);
+        }
+    }
+
+    @Override
+    public List<ScoreChange> getTimeline(long matchId, int upToMinute) {
+        ScoreTimeline timeline = timelines.get(matchId);
+        return timeline == null ? null : timeline.getChanges(upToMinute);
+    }
+
+    @Override
+    public List<Match> findMatchesByTeam(String team) {
+        if (!StringUtils.hasText(team)) {
+            return List.of();
+        }
+        Match home = homeTeams.get(team);
+        Match away = awayTeams.get(team);
+        if (home == null) {
+            return away == null ? List.of() : List.of(away);
+        }
+        return away == null ? List.of(home) : List.of(home, away);
+    }
+
+    @Override
+    public List<Match> searchMatchesByTeamPrefix(String prefix, int limit) {
+        if (!StringUtils.hasText(prefix) || limit <= 0) {
+            return List.of();
+        }
+        //Every name starting with the prefix sorts between the prefix itself and prefix + Character.MAX_VALUE
+        Set<Match> found = new LinkedHashSet<>();
+        for (String team : teamNames.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+            found.addAll(findMatchesByTeam(team));
+            if (found.size() >= limit) {
+                break;
+            }
+        }
+        return found.stream().limit(limit).toList();
+    }
+
+    @Override
+    public Changes getChangesSince(long since) {
+        long version = getVersion();
+        List<Change> changes = changeLog.since(since, version);
+        if (changes == null) {
+            return new Changes(since, version, true, List.of());
+        }
+        return new Changes(since, version, false, changes);
+    }
+
+    @Override
+    public List<Match> getSortedMatches(RankingOrder order) {
+        if (order == RankingOrder.SCORE) {
+            return getSortedMatches();
+        }
+        if (!rankings.contains(order)) {
+            //Built under the write path, so that no mutation is missed between the build and the first update
+            recordedWrite("ranking-index", Integer::intValue, () -> {
+                rankings.create(order, storedMatches());
+                return storedCount();
+            });
+        }
+        ScoreboardPhaseEvent event = ScoreboardPhaseEvent.start();
+        List<Match> sorted = rankings.tryCopy(order);
+        if (sorted == null) {
+            sorted = write(() -> rankings.copy(order));
+        }
+        ScoreboardPhaseEvent.record(event, ScoreboardPhaseEvent.RANKING_COPY, sorted.size());
+        return sorted;
+    }
+
+    @Override
+    public List<String> getFormatedSortedSummary(RankingOrder order) {
+        return order == RankingOrder.SCORE ? getFormatedSortedSummary() : formatSummary(getSortedMatches(order));
+    }
+
+    @Override
+    public LiveStatistics getStatistics(int windowMinutes) {
+        return statistics.getStatistics(windowMinutes);
+    }
+
+    @Override
+    public Long getTeamGoals(String team) {
+        return statistics.getTeamGoals(team);
+    }
+
+    protected static List<String> formatSummary(List<Match> sortedMatches) {
+        ScoreboardPhaseEvent event = ScoreboardPhaseEvent.start();
+        List<String> summary = new ArrayList<>(sortedMatches.size());
+        for (int i = 0; i < sortedMatches.size(); i++) {
+            summary.add((i + 1) + ". " + sortedMatches.get(i));
+        }
+        ScoreboardPhaseEvent.record(event, ScoreboardPhaseEvent.FORMAT, summary.size());
+        return summary;
+    }
+}
@@ -0,0 +1,12 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.Change;
+
+import java.util.List;
+
+/**
+ * Changes between version {@code since} and the current {@code version}. When {@code snapshotRequired} is set,
+ * the changes are no longer available and the client has to fetch the full scoreboard again.
+ */
+public record Changes(long since, long version, boolean snapshotRequired, List<Change> changes) {
+}
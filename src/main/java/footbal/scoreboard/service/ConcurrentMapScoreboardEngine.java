@@ -0,0 +1,153 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.Match;
+import footbal.scoreboard.MatchClock;
+import footbal.scoreboard.PersistentList;
+import footbal.scoreboard.ScoreboardSnapshot;
+import footbal.scoreboard.jfr.ScoreboardPhaseEvent;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Engine ({@code scoreboard.engine=concurrent-map}) keeping the matches in a concurrent map ordered by id
+ * (i.e. start order) plus a ranking index kept in score order.
+ * <p>
+ * Writes change a single entry in O(log n) and the summary never needs sorting; in exchange, positional
+ * access walks the map and every read copies the entries it returns. Readers validate their copy against
+ * a sequence counter that is odd while a write is in progress (seqlock), and fall back to the write lock
+ * if writers keep invalidating it.
+ */
+public class ConcurrentMapScoreboardEngine extends AbstractScoreboardEngine {
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 8;
+
+    private final ConcurrentSkipListMap<Long, Match> matches = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListSet<Match> ranking = new ConcurrentSkipListSet<>(ScoreboardSnapshot.SCORE_ORDER);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile long sequence;
+    private volatile long version;
+
+    public ConcurrentMapScoreboardEngine() {
+        this(DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    public ConcurrentMapScoreboardEngine(int changeLogCapacity) {
+        this(changeLogCapacity, MatchClock.STANDARD);
+    }
+
+    public ConcurrentMapScoreboardEngine(int changeLogCapacity, MatchClock matchClock) {
+        super(changeLogCapacity, matchClock);
+    }
+
+    @Override
+    protected <T> T write(Supplier<T> mutation) {
+        writeLock.lock();
+        sequence++;
+        try {
+            return mutation.get();
+        } finally {
+            sequence++;
+            writeLock.unlock();
+        }
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+            long before = sequence;
+            if ((before & 1) == 0) {
+                T result = reader.get();
+                if (sequence == before) {
+                    return result;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        return write(reader);
+    }
+
+    @Override
+    protected int storedCount() {
+        return matches.size();
+    }
+
+    @Override
+    protected Match storedMatch(int index) {
+        Iterator<Match> iterator = matches.values().iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    @Override
+    protected Match storedMatchById(long matchId) {
+        return matches.get(matchId);
+    }
+
+    @Override
+    protected Iterable<Match> storedMatches() {
+        return matches.values();
+    }
+
+    @Override
+    protected void storeStarted(Match match) {
+        matches.put(match.getId(), match);
+        ranking.add(match);
+    }
+
+    @Override
+    protected void storeUpdated(int index, Match current, Match updated) {
+        matches.put(updated.getId(), updated);
+        ranking.remove(current);
+        ranking.add(updated);
+    }
+
+    @Override
+    protected void storeFinished(int index, Match finished) {
+        matches.remove(finished.getId());
+        ranking.remove(finished);
+    }
+
+    @Override
+    protected void storeCleared() {
+        matches.clear();
+        ranking.clear();
+    }
+
+    @Override
+    protected void publish(long version) {
+        this.version = version;
+    }
+
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return read(() -> ScoreboardSnapshot.of(version, PersistentList.copyOf(matches.values())));
+    }
+
+    @Override
+    public List<Match> getMatches() {
+        return read(() -> List.copyOf(matches.values()));
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public List<Match> getSortedMatches() {
+        ScoreboardPhaseEvent event = ScoreboardPhaseEvent.start();
+        List<Match> sorted = read(() -> List.copyOf(ranking));
+        ScoreboardPhaseEvent.record(event, ScoreboardPhaseEvent.RANKING_COPY, sorted.size());
+        return sorted;
+    }
+
+    @Override
+    public List<String> getFormatedSortedSummary() {
+        return formatSummary(getSortedMatches());
+    }
+}
@@ -0,0 +1,15 @@
+package footbal.scoreboard.service;
+
+/**
+ * One row of a fixture import. {@code error} is set when the row could not be parsed.
+ */
+public record Fixture(long line, String homeTeam, String awayTeam, String error) {
+
+    public Fixture(long line, String homeTeam, String awayTeam) {
+        this(line, homeTeam, awayTeam, null);
+    }
+
+    public static Fixture malformed(long line, String error) {
+        return new Fixture(line, null, null, error);
+    }
+}
@@ -0,0 +1,13 @@
+package footbal.scoreboard.service;
+
+import java.util.List;
+
+/**
+ * Outcome of a fixture import. At most {@link ScoreboardEngine#MAX_REPORTED_IMPORT_ERRORS} row errors are listed,
+ * {@code rejected} counts all of them.
+ */
+public record ImportResult(int imported, int rejected, List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,18 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.MatchClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class MatchClockConfiguration {
+
+    @Bean
+    public MatchClock matchClock(@Value("${scoreboard.clock.half-length:45m}") Duration halfLength,
+                                 @Value("${scoreboard.clock.half-time:15m}") Duration halfTimeBreak) {
+        return new MatchClock(halfLength, halfTimeBreak);
+    }
+}
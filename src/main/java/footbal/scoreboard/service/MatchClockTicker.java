@@ -0,0 +1,55 @@
+package footbal.scoreboard.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the match clocks of the engine with a single thread, whatever the number of matches
+ * ({@code scoreboard.clock.enabled=false} stops the clocks, matches then stay until they are finished).
+ * The property is read at startup rather than as a bean condition, so that AOT-processed builds honour it too.
+ */
+@Component
+public class MatchClockTicker implements DisposableBean {
+    private static final Logger LOG = LoggerFactory.getLogger(MatchClockTicker.class);
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scoreboard-clock");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public MatchClockTicker(ScoreboardEngine scoreboardEngine, @Value("${scoreboard.clock.enabled:true}") boolean enabled) {
+        this(scoreboardEngine, enabled, ScoreboardEngine.CLOCK_TICK_MILLIS);
+    }
+
+    MatchClockTicker(ScoreboardEngine scoreboardEngine, boolean enabled, long tickMillis) {
+        if (!enabled) {
+            return;
+        }
+        ticker.scheduleAtFixedRate(() -> tick(scoreboardEngine), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    //A task that throws is never run again by the executor, so a failed tick must not stop every match clock
+    private static void tick(ScoreboardEngine scoreboardEngine) {
+        try {
+            scoreboardEngine.advanceClock(Instant.now());
+        } catch (RuntimeException e) {
+            LOG.error("Match clock tick failed, retrying at the next tick", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdown();
+    }
+}
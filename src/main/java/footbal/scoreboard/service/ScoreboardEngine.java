@@ -0,0 +1,103 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.LiveStatistics;
+import footbal.scoreboard.Match;
+import footbal.scoreboard.RankingOrder;
+import footbal.scoreboard.ScoreChange;
+import footbal.scoreboard.ScoreboardSnapshot;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Operations of the live scoreboard. Implementations differ only in how they store the matches and how they
+ * make concurrent reads and writes safe; the backend is selected with the {@code scoreboard.engine} property.
+ */
+public interface ScoreboardEngine {
+    String MATCH_INDEX_IS_OUT_OF_RANGE = "Match index is out of range.";
+    String CANNOT_BE_NULL_OR_EMPTY = "Team names cannot be null or empty";
+    String CANNOT_BE_NEGATIVE = "Scores cannot be negative.";
+    String ALREADY_EXISTS = "A match with one of the teams already exists.";
+    int MAX_REPORTED_IMPORT_ERRORS = 1000;
+    int DEFAULT_CHANGE_LOG_CAPACITY = 4096;
+    String ADDED_TIME_CANNOT_BE_NEGATIVE = "Added time cannot be negative.";
+    String NOT_PLAYING = "Added time can only be announced during a half.";
+    long CLOCK_TICK_MILLIS = 1000;
+
+    /**
+     * Consistent view of the matches in start order together with the version they belong to.
+     */
+    ScoreboardSnapshot getSnapshot();
+
+    /**
+     * Matches in start order.
+     */
+    List<Match> getMatches();
+
+    void startMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Starts all valid fixtures in a single state transition: readers see either none or all imported matches.
+     * Rows are validated in one pass against the same rules as {@link #startMatch(String, String)}, including
+     * teams already used by earlier imported rows of the same import; invalid rows are reported and skipped.
+     */
+    ImportResult importMatches(Stream<Fixture> fixtures);
+
+    void updateScore(int matchIndex, int homeScore, int awayScore);
+
+    /**
+     * Announces the added time of the current half, which moves the end of the half accordingly.
+     */
+    void addTime(int matchIndex, int minutes);
+
+    void finishMatch(int index);
+
+    /**
+     * Moves the match clocks to {@code now}: matches whose period has ended go to the next period,
+     * and matches whose last period has ended are finished. All of these changes are published as one version.
+     */
+    void advanceClock(Instant now);
+
+    /**
+     * Score changes of the match in play with the given id, up to and including the given minute of play,
+     * or {@code null} if there is no such match.
+     */
+    List<ScoreChange> getTimeline(long matchId, int upToMinute);
+
+    List<Match> findMatchesByTeam(String team);
+
+    List<Match> searchMatchesByTeamPrefix(String prefix, int limit);
+
+    long getVersion();
+
+    Changes getChangesSince(long since);
+
+    /**
+     * Live aggregates over the matches in play, served in O(1) whatever the number of matches.
+     * {@code windowMinutes} (1 to 60) selects the period for the recent goals count.
+     */
+    LiveStatistics getStatistics(int windowMinutes);
+
+    /**
+     * Goals of the team in the matches it is playing, or {@code null} if it is not playing.
+     */
+    Long getTeamGoals(String team);
+
+    /**
+     * Matches ordered by total score and then by start time, most recent first.
+     */
+    List<Match> getSortedMatches();
+
+    List<String> getFormatedSortedSummary();
+
+    /**
+     * Matches in the given order. Orders other than {@link RankingOrder#SCORE} are served from an index created
+     * the first time the order is requested, and maintained by every mutation from then on.
+     */
+    List<Match> getSortedMatches(RankingOrder order);
+
+    List<String> getFormatedSortedSummary(RankingOrder order);
+
+    void reset();
+}
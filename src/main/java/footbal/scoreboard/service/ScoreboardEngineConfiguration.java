@@ -0,0 +1,29 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.MatchClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static footbal.scoreboard.service.ScoreboardEngine.DEFAULT_CHANGE_LOG_CAPACITY;
+
+/**
+ * Creates the engine selected by {@code scoreboard.engine}. The choice is made when the bean is created rather than
+ * with bean conditions, because Spring AOT (fast-startup and native builds) evaluates conditions once at build time.
+ */
+@Configuration
+public class ScoreboardEngineConfiguration {
+    public static final String UNKNOWN_ENGINE = "Unknown scoreboard.engine %s, expected snapshot, concurrent-map or single-writer.";
+
+    @Bean
+    public ScoreboardEngine scoreboardEngine(@Value("${scoreboard.engine:snapshot}") String engine,
+                                             @Value("${scoreboard.change-log.capacity:" + DEFAULT_CHANGE_LOG_CAPACITY + "}") int changeLogCapacity,
+                                             MatchClock matchClock) {
+        return switch (engine) {
+            case "snapshot" -> new ScoreboardService(changeLogCapacity, matchClock);
+            case "concurrent-map" -> new ConcurrentMapScoreboardEngine(changeLogCapacity, matchClock);
+            case "single-writer" -> new SingleWriterScoreboardEngine(changeLogCapacity, matchClock);
+            default -> throw new IllegalArgumentException(UNKNOWN_ENGINE.formatted(engine));
+        };
+    }
+}
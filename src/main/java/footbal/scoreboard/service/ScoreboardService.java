@@ -1,83 +1,135 @@
 package footbal.scoreboard.service;
 
 import footbal.scoreboard.Match;
-import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
+import footbal.scoreboard.MatchClock;
+import footbal.scoreboard.PersistentList;
+import footbal.scoreboard.ScoreboardSnapshot;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
-@Service
-public class ScoreboardService {
-    public static final String MATCH_INDEX_IS_OUT_OF_RANGE = "Match index is out of range.";
-    public static final String CANNOT_BE_NULL_OR_EMPTY = "Team names cannot be null or empty";
-    public static final String CANNOT_BE_NEGATIVE = "Scores cannot be negative.";
-    public static final String ALREADY_EXISTS = "A match with one of the teams already exists.";
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Default engine ({@code scoreboard.engine=snapshot}): the matches are kept in a persistent list and published
+ * as immutable snapshots.
+ */
+public class ScoreboardService extends AbstractScoreboardEngine {
+    //Readers always see an immutable snapshot published through a single volatile reference (read-copy-update).
+    //Writers are serialized by the lock and derive the next version from a persistent list in O(log n),
+    //sharing all untouched structure with the previous version instead of copying the whole array.
+    private volatile ScoreboardSnapshot snapshot = ScoreboardSnapshot.empty();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    //Next version being built by the writer, published as a whole
+    private PersistentList<Match> draft = PersistentList.empty();
+
+    public ScoreboardService() {
+        this(DEFAULT_CHANGE_LOG_CAPACITY);
+    }
 
-    //CopyOnWriteArrayList allows for safe iteration and modification of the list without explicit synchronization,
-    //although it does incur a performance penalty on write operations since it creates a new copy upon modification.
-    private final CopyOnWriteArrayList<Match> matches = new CopyOnWriteArrayList<>();
+    public ScoreboardService(int changeLogCapacity) {
+        this(changeLogCapacity, MatchClock.STANDARD);
+    }
 
-    public List<Match> getMatches() {
-        return new ArrayList<>(matches);
+    public ScoreboardService(int changeLogCapacity, MatchClock matchClock) {
+        super(changeLogCapacity, matchClock);
     }
 
-    public void startMatch(String homeTeam, String awayTeam) {
-        if (!StringUtils.hasText(homeTeam) || !StringUtils.hasText(awayTeam)) {
-            throw new IllegalArgumentException(CANNOT_BE_NULL_OR_EMPTY);
+    @Override
+    protected <T> T write(Supplier<T> mutation) {
+        writeLock.lock();
+        try {
+            return mutation.get();
+        } finally {
+            writeLock.unlock();
         }
+    }
 
-        if (matches.stream().anyMatch(match -> match.getHomeTeam().equals(homeTeam) || match.getAwayTeam().equals(awayTeam))) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
-        }
+    @Override
+    protected int storedCount() {
+        return draft.size();
+    }
 
-        matches.add(new Match(homeTeam, awayTeam));
+    @Override
+    protected Match storedMatch(int index) {
+        return draft.get(index);
     }
 
-    public void updateScore(int matchIndex, int homeScore, int awayScore) {
-        validateMatchIndex(matchIndex);
+    @Override
+    protected Match storedMatchById(long matchId) {
+        int index = indexOf(matchId);
+        return index < 0 ? null : draft.get(index);
+    }
 
-        if (homeScore < 0 || awayScore < 0) {
-            throw new IllegalArgumentException(CANNOT_BE_NEGATIVE);
+    //Matches are stored in start order, which is also id order
+    private int indexOf(long matchId) {
+        int low = 0;
+        int high = draft.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long id = draft.get(middle).getId();
+            if (id < matchId) {
+                low = middle + 1;
+            } else if (id > matchId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
         }
+        return -1;
+    }
 
-        matches.get(matchIndex).updateScore(homeScore, awayScore);
+    @Override
+    protected Iterable<Match> storedMatches() {
+        return draft;
     }
 
-    public void finishMatch(int index) {
-        validateMatchIndex(index);
-        matches.remove(index);
+    @Override
+    protected void storeStarted(Match match) {
+        draft = draft.plus(match);
     }
 
-    private void validateMatchIndex(int index) {
-        if (index < 0 || index >= matches.size()) {
-            throw new IndexOutOfBoundsException(MATCH_INDEX_IS_OUT_OF_RANGE);
-        }
+    @Override
+    protected void storeUpdated(int index, Match current, Match updated) {
+        draft = draft.with(index < 0 ? indexOf(current.getId()) : index, updated);
     }
 
-    public List<String> getFormatedSortedSummary() {
-        return IntStream.range(0, matches.size())
-                .mapToObj(i -> (i + 1) + ". " + sortMatches().get(i).toString())
-                .collect(Collectors.toList());
+    @Override
+    protected void storeFinished(int index, Match finished) {
+        draft = draft.minus(index < 0 ? indexOf(finished.getId()) : index);
     }
 
-    public List<Match> getSortedMatches() {
-        return sortMatches();
+    @Override
+    protected void storeCleared() {
+        draft = PersistentList.empty();
     }
 
-    private List<Match> sortMatches() {
-        return matches.stream()
-                .sorted(Comparator.comparingInt(Match::getTotalScore)
-                        .reversed()
-                        .thenComparing(Comparator.comparing(Match::getStartTime).reversed()))
-                .collect(Collectors.toList());
+    @Override
+    protected void publish(long version) {
+        snapshot = ScoreboardSnapshot.of(version, draft);
     }
 
-    public void reset() {
-        matches.clear();
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public List<Match> getMatches() {
+        return snapshot.getMatches();
+    }
+
+    @Override
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    @Override
+    public List<String> getFormatedSortedSummary() {
+        return snapshot.getSummary();
+    }
+
+    @Override
+    public List<Match> getSortedMatches() {
+        return snapshot.getSortedMatches();
     }
 }
@@ -0,0 +1,60 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.MatchClock;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Engine ({@code scoreboard.engine=single-writer}) storing and publishing snapshots like {@link ScoreboardService},
+ * but applying every mutation on one dedicated writer thread instead of behind a lock. Writer state stays
+ * confined to that thread, and callers never contend with each other for a lock.
+ */
+public class SingleWriterScoreboardEngine extends ScoreboardService implements DisposableBean {
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scoreboard-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Thread writerThread;
+
+    public SingleWriterScoreboardEngine() {
+        this(DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    public SingleWriterScoreboardEngine(int changeLogCapacity) {
+        this(changeLogCapacity, MatchClock.STANDARD);
+    }
+
+    public SingleWriterScoreboardEngine(int changeLogCapacity, MatchClock matchClock) {
+        super(changeLogCapacity, matchClock);
+    }
+
+    @Override
+    protected <T> T write(Supplier<T> mutation) {
+        if (Thread.currentThread() == writerThread) {
+            return mutation.get();
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                writerThread = Thread.currentThread();
+                return mutation.get();
+            }, writer).join();
+        } catch (CompletionException e) {
+            //Rethrow validation errors as if the mutation had run on the calling thread
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        writer.shutdown();
+    }
+}
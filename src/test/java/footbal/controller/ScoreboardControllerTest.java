@@ -1,5 +1,6 @@
 package footbal.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import footbal.scoreboard.Match;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import static footbal.scoreboard.service.ScoreboardService.*;
 import static footbal.scoreboard.service.ScoreboardServiceTest.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -201,6 +203,26 @@ public class ScoreboardControllerTest {
         }
     }
 
+    @Test
+    public void testAddTime() throws Exception {
+        // Start a match and announce added time
+        startMatch(TEAM_A, TEAM_B);
+        mockMvc.perform(put(MATCHES_URL + "/0/added-time").param("minutes", "4"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(ScoreboardController.ADDED_TIME_FOR_MATCH_AT_INDEX + 0));
+        mockMvc.perform(get(MATCHES_URL))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"homeTeam\":\"" + TEAM_A + "\",\"period\":\"FIRST_HALF\",\"addedMinutes\":4}]"));
+
+        // Negative added time and unknown matches are rejected
+        mockMvc.perform(put(MATCHES_URL + "/0/added-time").param("minutes", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ADDED_TIME_CANNOT_BE_NEGATIVE));
+        mockMvc.perform(put(MATCHES_URL + "/1/added-time").param("minutes", "1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(ScoreboardController.INVALID_MATCH_INDEX + 1));
+    }
+
     @Test
     public void testFinishMatch() throws Exception {
         // Start a match
@@ -297,6 +319,171 @@ public class ScoreboardControllerTest {
         getSummary("[]");
     }
 
+    @Test
+    public void testGetSummaryAndMatchesInOtherOrders() throws Exception {
+        // Start two matches and score in the first one
+        startMatch(TEAM_C, TEAM_D);
+        startMatch(TEAM_A, TEAM_B);
+        updateScore(0, 0, 1);
+
+        // The same matches, ranked by team name instead of score or start order
+        mockMvc.perform(get(BASE_URL + "/summary").param("order", "TEAM_NAME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("1. " + TEAM_A + " 0 - 0 " + TEAM_B))
+                .andExpect(jsonPath("$[1]").value("2. " + TEAM_C + " 0 - 1 " + TEAM_D));
+        mockMvc.perform(get(MATCHES_URL).param("order", "TEAM_NAME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].homeTeam").value(TEAM_A))
+                .andExpect(jsonPath("$[1].homeTeam").value(TEAM_C));
+
+        // Unknown orders are rejected
+        mockMvc.perform(get(BASE_URL + "/summary").param("order", "SHOE_SIZE"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetMatchesByTeam() throws Exception {
+        // Start two matches
+        startMatch(TEAM_A, TEAM_B);
+        startMatch(TEAM_C, TEAM_D);
+
+        // Find the match of a team
+        mockMvc.perform(get(MATCHES_URL + "/team/" + TEAM_C))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"homeTeam\":\"" + TEAM_C + "\",\"awayTeam\":\"" + TEAM_D + "\"}]"));
+
+        // Unknown team is not found
+        mockMvc.perform(get(MATCHES_URL + "/team/" + TEAM_E))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testSearchMatches() throws Exception {
+        // Start two matches
+        startMatch(TEAM_A, TEAM_B);
+        startMatch("Brazil", "Croatia");
+
+        // Search by team name prefix
+        mockMvc.perform(get(MATCHES_URL + "/search").param("prefix", "Bra"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"homeTeam\":\"Brazil\",\"awayTeam\":\"Croatia\"}]"));
+        mockMvc.perform(get(MATCHES_URL + "/search").param("prefix", "Team"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"homeTeam\":\"" + TEAM_A + "\",\"awayTeam\":\"" + TEAM_B + "\"}]"));
+    }
+
+    @Test
+    public void testImportCsv() throws Exception {
+        // Import a CSV fixture list with a header, a malformed row and a duplicate team
+        String csv = "homeTeam,awayTeam\n" + TEAM_A + "," + TEAM_B + "\n" + TEAM_C + "\n\"" + TEAM_E + "\", " + TEAM_F + "\n" + TEAM_A + "," + TEAM_D + "\n";
+        mockMvc.perform(post(MATCHES_URL + "/import")
+                        .contentType(FixtureReader.TEXT_CSV)
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"imported\":2,\"rejected\":2,\"errors\":[" +
+                        "{\"line\":3,\"message\":\"" + FixtureReader.MALFORMED_CSV_ROW + "\"}," +
+                        "{\"line\":5,\"message\":\"" + ALREADY_EXISTS + "\"}]}"));
+
+        getSummary("[\"1. " + TEAM_E + " 0 - 0 " + TEAM_F + "\", \"2. " + TEAM_A + " 0 - 0 " + TEAM_B + "\"]");
+    }
+
+    @Test
+    public void testImportCsvHeaderAfterBlankLines() throws Exception {
+        // The header is the first non-blank line, wherever the file starts
+        String csv = "\n  \nhomeTeam,awayTeam\n" + TEAM_A + "," + TEAM_B + "\n";
+        mockMvc.perform(post(MATCHES_URL + "/import")
+                        .contentType(FixtureReader.TEXT_CSV)
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"imported\":1,\"rejected\":0,\"errors\":[]}"));
+
+        getSummary("[\"1. " + TEAM_A + " 0 - 0 " + TEAM_B + "\"]");
+    }
+
+    @Test
+    public void testImportNdjson() throws Exception {
+        // Import an NDJSON fixture list with a malformed row
+        String ndjson = "{\"homeTeam\":\"" + TEAM_A + "\",\"awayTeam\":\"" + TEAM_B + "\"}\n" +
+                "not json\n" +
+                "{\"homeTeam\":\"" + TEAM_C + "\",\"awayTeam\":\"" + TEAM_D + "\"}\n";
+        mockMvc.perform(post(MATCHES_URL + "/import")
+                        .contentType(FixtureReader.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"imported\":2,\"rejected\":1,\"errors\":[{\"line\":2}]}"));
+
+        getTwoMatches();
+    }
+
+    @Test
+    public void testGetChanges() throws Exception {
+        // Start a match and read the version of the scoreboard
+        startMatch(TEAM_A, TEAM_B);
+        String version = mockMvc.perform(get(MATCHES_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(ScoreboardController.VERSION_HEADER);
+
+        // Start another match and update the first one
+        startMatch(TEAM_C, TEAM_D);
+        updateScore(0, 1, 0);
+
+        // Only the changes since the version are returned
+        mockMvc.perform(get(BASE_URL + "/changes").param("since", version))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"since\":" + version + ",\"snapshotRequired\":false,\"changes\":[" +
+                        "{\"type\":\"STARTED\",\"match\":{\"homeTeam\":\"" + TEAM_C + "\"}}," +
+                        "{\"type\":\"RERANKED\",\"match\":{\"homeTeam\":\"" + TEAM_A + "\",\"homeScore\":1}}]}"));
+    }
+
+    @Test
+    public void testGetStatistics() throws Exception {
+        // Start two matches and score in one of them
+        startMatch(TEAM_A, TEAM_B);
+        startMatch(TEAM_C, TEAM_D);
+        updateScore(1, 2, 0);
+
+        // Aggregates over the matches in play
+        mockMvc.perform(get(BASE_URL + "/stats").param("window", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"matchesInPlay\":2,\"totalGoals\":2,\"draws\":1,\"windowMinutes\":5,\"goalsInWindow\":2," +
+                        "\"highestScoringMatch\":{\"homeTeam\":\"" + TEAM_C + "\",\"homeScore\":2}}"));
+
+        // Goals of a team, unknown team is not found
+        mockMvc.perform(get(BASE_URL + "/stats/team/" + TEAM_C))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+        mockMvc.perform(get(BASE_URL + "/stats/team/" + TEAM_E))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testGetTimeline() throws Exception {
+        // Score twice in a match
+        startMatch(TEAM_A, TEAM_B);
+        updateScore(0, 1, 0);
+        updateScore(0, 1, 1);
+        String matches = mockMvc.perform(get(MATCHES_URL)).andReturn().getResponse().getContentAsString();
+        long id = JsonPath.<Number>read(matches, "$[0].id").longValue();
+
+        // The timeline is not part of the match itself
+        mockMvc.perform(get(MATCHES_URL))
+                .andExpect(jsonPath("$[0].timeline").doesNotExist());
+
+        // Every change of score, and the changes up to a minute
+        mockMvc.perform(get(MATCHES_URL + "/" + id + "/timeline"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"minute\":1,\"addedMinute\":0,\"side\":\"HOME\",\"homeScore\":1,\"awayScore\":0,\"correction\":false}," +
+                        "{\"minute\":1,\"addedMinute\":0,\"side\":\"AWAY\",\"homeScore\":1,\"awayScore\":1,\"correction\":false}]"));
+        mockMvc.perform(get(MATCHES_URL + "/" + id + "/timeline").param("minute", "0"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+
+        // Finished and unknown matches are not found
+        finishMatch();
+        mockMvc.perform(get(MATCHES_URL + "/" + id + "/timeline"))
+                .andExpect(status().isNotFound());
+    }
+
     private void startAndGetTwoMatches() throws Exception {
         // Start a few matches
         startMatch(TEAM_A, TEAM_B);
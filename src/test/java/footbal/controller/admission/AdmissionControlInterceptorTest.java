@@ -0,0 +1,146 @@
+package footbal.controller.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static footbal.controller.admission.AdmissionControlInterceptor.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlInterceptorTest {
+    public static final String MATCHES_URL = "/vk/scoreboard/matches";
+
+    @Test
+    public void testTokenBucketRefill() {
+        //Bucket with 2 tokens refilled at 1 token per second
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(1, 2, now::get);
+
+        //The burst is admitted, the next request is not
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire(), "Empty bucket should reject");
+
+        //After one second one more token is available
+        now.addAndGet(1_000_000_000L);
+        assertTrue(bucket.tryAcquire(), "Refilled token should be admitted");
+        assertFalse(bucket.tryAcquire(), "Only one token should be refilled");
+    }
+
+    @Test
+    public void testClientRateLimit() throws Exception {
+        //Each client may burst two writes
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(true, 0.001, 2, 1000, 1000, 10, 100, true);
+
+        //Client A uses its burst and is rejected
+        assertAdmitted(interceptor, write("A"));
+        assertAdmitted(interceptor, write("A"));
+        assertRejected(interceptor, write("A"), HttpStatus.TOO_MANY_REQUESTS, CLIENT_RATE_LIMIT_EXCEEDED);
+
+        //Client B is not affected by client A
+        assertAdmitted(interceptor, write("B"));
+
+        //Reads are never limited
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", MATCHES_URL);
+        read.addHeader(CLIENT_ID_HEADER, "A");
+        assertAdmitted(interceptor, read);
+
+        assertEquals(1, ((LimiterMetrics) interceptor.getMetrics().get("client")).getRejected(), "One rejection should be counted");
+    }
+
+    @Test
+    public void testGlobalRateLimit() throws Exception {
+        //All clients share a burst of two writes
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(true, 1000, 1000, 0.001, 2, 10, 100, true);
+
+        assertAdmitted(interceptor, write("A"));
+        assertAdmitted(interceptor, write("B"));
+        assertRejected(interceptor, write("C"), HttpStatus.TOO_MANY_REQUESTS, GLOBAL_RATE_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    public void testInFlightLimit() throws Exception {
+        //Only one write may be in flight
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(true, 1000, 1000, 1000, 1000, 1, 100, true);
+
+        //The second write is rejected while the first is still being handled
+        MockHttpServletRequest first = write("A");
+        assertAdmitted(interceptor, first);
+        assertRejected(interceptor, write("B"), HttpStatus.SERVICE_UNAVAILABLE, TOO_MANY_MUTATIONS_IN_FLIGHT);
+        assertEquals(1, interceptor.getMetrics().get("mutationsInFlight"));
+
+        //Completing the first write frees the slot
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        assertAdmitted(interceptor, write("B"));
+    }
+
+    @Test
+    public void testTrackedClientsAreBounded() throws Exception {
+        //Two tracked clients at most, each may burst two writes and refills in 2 seconds
+        AtomicLong now = new AtomicLong();
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(true, 1, 2, 10_000, 10_000, 10_000, 2, true, now::get);
+
+        assertAdmitted(interceptor, write("A"));
+        assertAdmitted(interceptor, write("B"));
+        //Rotating ids do not add buckets, nor are they limited per client
+        for (int i = 0; i < 1000; i++) {
+            assertAdmitted(interceptor, write("rotating-" + i));
+        }
+        assertEquals(2, interceptor.getMetrics().get("trackedClients"));
+        assertEquals(1000L, interceptor.getMetrics().get("untrackedWrites"));
+
+        //Once the tracked clients have been idle long enough their buckets are full and make room for new clients
+        now.addAndGet(2_000_000_000L);
+        assertAdmitted(interceptor, write("B"));
+        assertAdmitted(interceptor, write("C"));
+        assertAdmitted(interceptor, write("C"));
+        assertRejected(interceptor, write("C"), HttpStatus.TOO_MANY_REQUESTS, CLIENT_RATE_LIMIT_EXCEEDED);
+        assertEquals(2, interceptor.getMetrics().get("trackedClients"));
+    }
+
+    @Test
+    public void testClientIdHeaderIsTrustedOnlyWhenConfigured() throws Exception {
+        //Each client may burst one write
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(true, 0.001, 1, 1000, 1000, 10, 100, false);
+
+        //Without trust, writes from one address share a bucket whatever id they claim
+        assertAdmitted(interceptor, write("A"));
+        assertRejected(interceptor, write("B"), HttpStatus.TOO_MANY_REQUESTS, CLIENT_RATE_LIMIT_EXCEEDED);
+
+        MockHttpServletRequest otherAddress = write("B");
+        otherAddress.setRemoteAddr("192.0.2.1");
+        assertAdmitted(interceptor, otherAddress);
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        //Nothing is limited when admission control is disabled
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(false, 0.001, 1, 0.001, 1, 1, 100, true);
+
+        for (int i = 0; i < 10; i++) {
+            assertAdmitted(interceptor, write("A"));
+        }
+    }
+
+    private static MockHttpServletRequest write(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", MATCHES_URL);
+        request.addHeader(CLIENT_ID_HEADER, clientId);
+        return request;
+    }
+
+    private static void assertAdmitted(AdmissionControlInterceptor interceptor, MockHttpServletRequest request) throws Exception {
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null), "Request should be admitted");
+    }
+
+    private static void assertRejected(AdmissionControlInterceptor interceptor, MockHttpServletRequest request,
+                                       HttpStatus status, String message) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request, response, null), "Request should be rejected");
+        assertEquals(status.value(), response.getStatus());
+        assertEquals(message, response.getContentAsString());
+        assertEquals("1", response.getHeader("Retry-After"));
+    }
+}
@@ -0,0 +1,108 @@
+package footbal.controller.jfr;
+
+import footbal.scoreboard.jfr.ScoreboardOperationEvent;
+import footbal.scoreboard.jfr.ScoreboardPhaseEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static footbal.scoreboard.service.ScoreboardServiceTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ScoreboardEventsTest {
+    private static final String OPERATION = "footbal.scoreboard.Operation";
+    private static final String PHASE = "footbal.scoreboard.Phase";
+    private static final String REQUEST = "footbal.scoreboard.Request";
+    private static final String MATCHES_URL = "/vk/scoreboard/matches";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        mockMvc.perform(post("/vk/scoreboard/reset")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testEventsAreRecorded() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            //Every event, however short
+            recording.enable(OPERATION).withThreshold(Duration.ZERO);
+            recording.enable(PHASE).withThreshold(Duration.ZERO);
+            recording.enable(REQUEST).withThreshold(Duration.ZERO);
+            recording.start();
+
+            mockMvc.perform(post(MATCHES_URL).param("homeTeam", TEAM_A).param("awayTeam", TEAM_B))
+                    .andExpect(status().isOk());
+            mockMvc.perform(put(MATCHES_URL + "/0/score").param("homeScore", "1").param("awayScore", "0"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/vk/scoreboard/summary")).andExpect(status().isOk());
+            mockMvc.perform(put(MATCHES_URL + "/5/score").param("homeScore", "1").param("awayScore", "0"))
+                    .andExpect(status().isBadRequest());
+
+            recording.stop();
+            Path file = directory.resolve("scoreboard.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        //Mutations, with their writer phases
+        RecordedEvent start = find(events, OPERATION, "operation", "start");
+        assertEquals(1, start.getInt("batchSize"));
+        assertEquals(1, start.getInt("matchCount"));
+        assertFalse(start.getString("engine").isEmpty());
+        assertFalse(start.getDuration("apply").isNegative());
+        RecordedEvent update = find(events, OPERATION, "operation", "update");
+        assertTrue(update.getLong("version") > start.getLong("version"));
+
+        //The summary is formatted on the read path
+        RecordedEvent format = find(events, PHASE, "phase", "format");
+        assertEquals(1, format.getInt("matchCount"));
+
+        //Requests are grouped by mapping pattern, failed ones included
+        RecordedEvent summary = find(events, REQUEST, "path", "/vk/scoreboard/summary");
+        assertEquals("GET", summary.getString("method"));
+        assertEquals(200, summary.getInt("status"));
+        assertFalse(summary.getDuration("serialization").isNegative());
+        List<RecordedEvent> updates = events.stream()
+                .filter(event -> event.getEventType().getName().equals(REQUEST))
+                .filter(event -> "/vk/scoreboard/matches/{index}/score".equals(event.getString("path")))
+                .toList();
+        assertEquals(List.of(200, 400), updates.stream().map(event -> event.getInt("status")).toList());
+    }
+
+    @Test
+    public void testNothingIsCreatedWithoutRecording() {
+        //Without a running recording the events are not even allocated
+        assertFalse(ScoreboardOperationEvent.isRecording());
+        assertNull(ScoreboardPhaseEvent.start());
+        assertNull(ScoreboardRequestEvent.start());
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String type, String field, String value) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(type))
+                .filter(event -> value.equals(event.getString(field)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + type + " event with " + field + " " + value));
+    }
+}
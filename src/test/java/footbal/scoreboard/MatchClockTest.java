@@ -0,0 +1,40 @@
+package footbal.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatchClockTest {
+    private static final Instant KICKOFF = Instant.parse("2026-06-11T18:00:00Z");
+    private static final MatchClock CLOCK = MatchClock.STANDARD;
+
+    @Test
+    public void testMinutesOfTheFirstHalf() {
+        Match match = new Match("A", "B", KICKOFF.plus(Duration.ofMinutes(45)));
+
+        assertEquals(new MatchClock.Minute(1, 0), CLOCK.minuteOf(match, KICKOFF.plusSeconds(30)));
+        assertEquals(new MatchClock.Minute(45, 0), CLOCK.minuteOf(match, KICKOFF.plus(Duration.ofMinutes(44))));
+
+        //Added time is shown on top of the last minute of the half
+        Match added = match.withAddedMinutes(3);
+        assertEquals(new MatchClock.Minute(45, 2), CLOCK.minuteOf(added, KICKOFF.plus(Duration.ofMinutes(46))));
+    }
+
+    @Test
+    public void testHalfTimeIsNotCounted() {
+        Instant halfTimeEnd = KICKOFF.plus(Duration.ofMinutes(45 + 15));
+        Match halfTime = new Match("A", "B", KICKOFF.plus(Duration.ofMinutes(45)))
+                .withPeriod(MatchClock.Period.HALF_TIME, halfTimeEnd);
+        assertEquals(new MatchClock.Minute(45, 0), CLOCK.minuteOf(halfTime, halfTimeEnd.minusSeconds(1)));
+
+        //74 minutes after kick-off is the 60th minute of play, the break does not count
+        Match secondHalf = halfTime.withPeriod(MatchClock.Period.SECOND_HALF, halfTimeEnd.plus(Duration.ofMinutes(45)));
+        Instant anHourIn = KICKOFF.plus(Duration.ofMinutes(74)).plusSeconds(30);
+        assertEquals(new MatchClock.Minute(60, 0), CLOCK.minuteOf(secondHalf, anHourIn));
+        assertEquals(new MatchClock.Minute(90, 4),
+                CLOCK.minuteOf(secondHalf.withAddedMinutes(5), halfTimeEnd.plus(Duration.ofMinutes(48))));
+    }
+}
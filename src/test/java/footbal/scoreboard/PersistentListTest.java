@@ -0,0 +1,64 @@
+package footbal.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentListTest {
+
+    @Test
+    public void testOperationsMatchArrayList() {
+        //Apply the same random operations to a persistent list and an ArrayList
+        Random random = new Random(42);
+        PersistentList<Integer> persistent = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                persistent = persistent.plus(i);
+                expected.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                persistent = persistent.with(index, -i);
+                expected.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                persistent = persistent.minus(index);
+                expected.remove(index);
+            }
+        }
+
+        //Both lists should contain the same elements in the same order
+        assertEquals(expected, persistent, "Persistent list should behave like an ArrayList");
+        assertEquals(expected.size(), persistent.size(), "Sizes should match");
+    }
+
+    @Test
+    public void testOlderVersionsAreUnchanged() {
+        //Build a list and derive new versions from it
+        PersistentList<String> first = PersistentList.<String>empty().plus("a").plus("b").plus("c");
+        PersistentList<String> second = first.with(1, "x");
+        PersistentList<String> third = second.minus(0);
+
+        //Every version keeps its own content
+        assertEquals(List.of("a", "b", "c"), first);
+        assertEquals(List.of("a", "x", "c"), second);
+        assertEquals(List.of("x", "c"), third);
+    }
+
+    @Test
+    public void testInvalidIndexAndMutators() {
+        PersistentList<String> list = PersistentList.<String>empty().plus("a");
+
+        //Out of range indexes are rejected
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        //The list cannot be modified in place
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+    }
+}
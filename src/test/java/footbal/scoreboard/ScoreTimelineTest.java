@@ -0,0 +1,52 @@
+package footbal.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreTimelineTest {
+    private static final long KICKOFF = Instant.parse("2026-06-11T18:00:00Z").toEpochMilli();
+    private static final long MINUTE = 60_000;
+
+    @Test
+    public void testChangesAreDecodedWithTheirMinute() {
+        ScoreTimeline timeline = new ScoreTimeline();
+        timeline.record(KICKOFF + 30_000, new MatchClock.Minute(1, 0), 0, 0, 1, 0);
+        timeline.record(KICKOFF + 47 * MINUTE, new MatchClock.Minute(45, 2), 1, 0, 1, 1);
+        timeline.record(KICKOFF + 75 * MINUTE, new MatchClock.Minute(60, 0), 1, 1, 0, 2);
+
+        assertEquals(List.of(
+                new ScoreChange(Instant.ofEpochMilli(KICKOFF + 30_000), 1, 0, ScoreChange.Side.HOME, 1, 0, false),
+                new ScoreChange(Instant.ofEpochMilli(KICKOFF + 47 * MINUTE), 45, 2, ScoreChange.Side.AWAY, 1, 1, false),
+                new ScoreChange(Instant.ofEpochMilli(KICKOFF + 75 * MINUTE), 60, 0, ScoreChange.Side.BOTH, 0, 2, true)
+        ), timeline.getChanges(Integer.MAX_VALUE));
+        //Added time counts as the last minute of its half
+        assertEquals(2, timeline.getChanges(45).size());
+        assertEquals(1, timeline.getChanges(44).size());
+        //A correction is found against the previous change even when that one is filtered out
+        assertTrue(timeline.getChanges(Integer.MAX_VALUE).getLast().correction());
+    }
+
+    @Test
+    public void testTimelineGrowsAndIsReleased() {
+        ScoreTimeline timeline = new ScoreTimeline();
+        for (int goal = 1; goal <= 100; goal++) {
+            timeline.record(KICKOFF + goal * MINUTE, new MatchClock.Minute(goal, 0), goal - 1, 0, goal, 0);
+        }
+        //Large scores survive the packing
+        timeline.record(KICKOFF + 101 * MINUTE, new MatchClock.Minute(90, 11), 100, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        List<ScoreChange> changes = timeline.getChanges(Integer.MAX_VALUE);
+        assertEquals(101, changes.size());
+        assertEquals(50, changes.get(49).homeScore());
+        assertEquals(Integer.MAX_VALUE, changes.getLast().homeScore());
+        assertEquals(Integer.MAX_VALUE, changes.getLast().awayScore());
+        assertEquals(11, changes.getLast().addedMinute());
+
+        timeline.release();
+        assertEquals(List.of(), timeline.getChanges(Integer.MAX_VALUE));
+    }
+}
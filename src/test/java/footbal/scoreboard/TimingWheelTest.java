@@ -0,0 +1,84 @@
+package footbal.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+    private static final long TICK = 1000;
+
+    @Test
+    public void testTimersExpireInDeadlineOrder() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 2, 3, 0);
+        //Deadlines on every level of a small wheel (4 buckets per level, 64 ticks in total)
+        wheel.schedule(50 * TICK, "c");
+        wheel.schedule(3 * TICK, "a");
+        wheel.schedule(9 * TICK, "b");
+
+        //Nothing expires before its deadline, the tick of the deadline expires it
+        assertEquals(List.of(), wheel.advanceTo(2 * TICK));
+        assertEquals(List.of("a"), wheel.advanceTo(3 * TICK));
+        assertEquals(List.of("b"), wheel.advanceTo(49 * TICK));
+        assertEquals(List.of("c"), wheel.advanceTo(60 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testDeadlinesBeyondTheWheelAndInThePast() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 2, 3, 0);
+        //Far beyond the 64 ticks of the wheel, parked and re-hashed until it is in range
+        wheel.schedule(1000 * TICK, "far");
+        //Already due, expires at the next tick
+        wheel.schedule(0, "past");
+
+        assertEquals(List.of("past"), wheel.advanceTo(TICK));
+        assertEquals(List.of(), wheel.advanceTo(999 * TICK));
+        assertEquals(List.of("far"), wheel.advanceTo(1000 * TICK));
+    }
+
+    @Test
+    public void testCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 2, 3, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule(20 * TICK, "cancelled");
+        wheel.schedule(20 * TICK, "kept");
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled), "A timer can only be cancelled once");
+        assertEquals(List.of("kept"), wheel.advanceTo(20 * TICK));
+
+        wheel.schedule(30 * TICK, "cleared");
+        wheel.clear();
+        assertEquals(List.of(), wheel.advanceTo(40 * TICK));
+    }
+
+    @Test
+    public void testManyTimersMatchSortedDeadlines() {
+        //Random deadlines, a third of them cancelled, expire exactly once and in deadline order
+        Random random = new Random(42);
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, 6, 4, 0);
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < 100_000; i++) {
+            long deadlineTick = 1 + random.nextInt(3 * 3600);
+            long task = deadlineTick * 1_000_000 + i;
+            TimingWheel.Timeout<Long> timeout = wheel.schedule(deadlineTick * TICK, task);
+            if (random.nextInt(3) == 0) {
+                wheel.cancel(timeout);
+            } else {
+                expected.add(task);
+            }
+        }
+        expected.sort(null);
+
+        List<Long> expired = new ArrayList<>();
+        for (long now = 0; now < 3 * 3600 * TICK; now += 7 * TICK) {
+            expired.addAll(wheel.advanceTo(now));
+        }
+        expired.addAll(wheel.advanceTo(3 * 3600 * TICK));
+        assertEquals(expected, expired);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,109 @@
+package footbal.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static footbal.scoreboard.service.ScoreboardServiceTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentStatisticsTest {
+
+    @Test
+    public void testCountersFollowEveryChange() {
+        TournamentStatistics statistics = new TournamentStatistics();
+        Match first = new Match(TEAM_A, TEAM_B);
+        Match second = new Match(TEAM_C, TEAM_D);
+        statistics.started(first);
+        statistics.started(second);
+
+        //Two goalless draws
+        assertEquals(new LiveStatistics(2, 0, 2, second, 15, 0), statistics.getStatistics(15));
+
+        //A goal breaks the draw and makes the first match the highest scoring one
+        Match scored = first.withScore(2, 1);
+        statistics.updated(first, scored);
+        LiveStatistics live = statistics.getStatistics(15);
+        assertEquals(3, live.totalGoals());
+        assertEquals(1, live.draws());
+        assertEquals(scored, live.highestScoringMatch());
+        assertEquals(2, statistics.getTeamGoals(TEAM_A));
+        assertEquals(1, statistics.getTeamGoals(TEAM_B));
+
+        //Finishing a match removes its goals, and the team is no longer tracked once forgotten
+        statistics.finished(scored);
+        statistics.forgetTeam(TEAM_A);
+        assertEquals(new LiveStatistics(1, 0, 1, second, 15, 3), statistics.getStatistics(15));
+        assertNull(statistics.getTeamGoals(TEAM_A));
+
+        statistics.clear();
+        assertEquals(new LiveStatistics(0, 0, 0, null, 15, 0), statistics.getStatistics(15));
+    }
+
+    @Test
+    public void testGoalWindowSlides() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-06-11T18:00:00Z"));
+        TournamentStatistics statistics = new TournamentStatistics(clock);
+        Match match = new Match(TEAM_A, TEAM_B);
+        statistics.started(match);
+
+        //One goal now, two more ten minutes later
+        Match scored = match.withScore(1, 0);
+        statistics.updated(match, scored);
+        clock.advance(Duration.ofMinutes(10));
+        statistics.updated(scored, scored.withScore(2, 1));
+
+        assertEquals(3, statistics.getStatistics(15).goalsInWindow());
+        assertEquals(2, statistics.getStatistics(5).goalsInWindow());
+
+        //The window forgets goals older than its length, the totals do not
+        clock.advance(Duration.ofMinutes(10));
+        assertEquals(2, statistics.getStatistics(15).goalsInWindow());
+        clock.advance(Duration.ofMinutes(GoalWindow.MAX_MINUTES));
+        assertEquals(0, statistics.getStatistics(GoalWindow.MAX_MINUTES).goalsInWindow());
+        assertEquals(3, statistics.getStatistics(15).totalGoals());
+    }
+
+    @Test
+    public void testGoalWindowRecyclesBuckets() {
+        GoalWindow window = new GoalWindow();
+        //A bucket reused by a later minute drops the goals of the earlier one
+        window.record(0, 5);
+        window.record(GoalWindow.MAX_MINUTES + 1, 1);
+        assertEquals(1, window.sum(GoalWindow.MAX_MINUTES + 1, GoalWindow.MAX_MINUTES));
+        //Corrections are recorded as negative goals
+        window.record(GoalWindow.MAX_MINUTES + 1, -1);
+        assertEquals(0, window.sum(GoalWindow.MAX_MINUTES + 1, 1));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package footbal.scoreboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatchClockTickerTest {
+
+    @Test
+    public void testTicksContinueAfterAFailure() throws Exception {
+        //The first tick fails, the next ones must still run
+        AtomicInteger ticks = new AtomicInteger();
+        CountDownLatch laterTicks = new CountDownLatch(2);
+        ScoreboardEngine engine = new ScoreboardService() {
+            @Override
+            public void advanceClock(Instant now) {
+                if (ticks.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Failed tick");
+                }
+                laterTicks.countDown();
+            }
+        };
+
+        MatchClockTicker ticker = new MatchClockTicker(engine, true, 10);
+        try {
+            assertTrue(laterTicks.await(5, TimeUnit.SECONDS), "Ticks should continue after a failed one");
+        } finally {
+            ticker.destroy();
+        }
+    }
+}
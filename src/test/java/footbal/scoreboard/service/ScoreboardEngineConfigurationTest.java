@@ -0,0 +1,29 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.MatchClock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreboardEngineConfigurationTest {
+    private final ScoreboardEngineConfiguration configuration = new ScoreboardEngineConfiguration();
+
+    @Test
+    public void testEngineIsSelectedByName() throws Exception {
+        assertEquals(ScoreboardService.class, engine("snapshot").getClass());
+        assertEquals(ConcurrentMapScoreboardEngine.class, engine("concurrent-map").getClass());
+        ScoreboardEngine singleWriter = engine("single-writer");
+        assertEquals(SingleWriterScoreboardEngine.class, singleWriter.getClass());
+        ((SingleWriterScoreboardEngine) singleWriter).destroy();
+    }
+
+    @Test
+    public void testUnknownEngineIsRejected() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> engine("skip-list"));
+        assertEquals(ScoreboardEngineConfiguration.UNKNOWN_ENGINE.formatted("skip-list"), exception.getMessage());
+    }
+
+    private ScoreboardEngine engine(String name) {
+        return configuration.scoreboardEngine(name, ScoreboardEngine.DEFAULT_CHANGE_LOG_CAPACITY, MatchClock.STANDARD);
+    }
+}
@@ -0,0 +1,386 @@
+package footbal.scoreboard.service;
+
+import footbal.scoreboard.Change;
+import footbal.scoreboard.LiveStatistics;
+import footbal.scoreboard.Match;
+import footbal.scoreboard.MatchClock;
+import footbal.scoreboard.RankingOrder;
+import footbal.scoreboard.ScoreChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static footbal.scoreboard.service.ScoreboardEngine.*;
+import static footbal.scoreboard.service.ScoreboardServiceTest.*;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link ScoreboardEngine} backend has to share, plus a simple mixed-workload benchmark
+ * to compare the backends with each other.
+ */
+public class ScoreboardEngineConformanceTest {
+    private ScoreboardEngine engine;
+
+    public static Stream<Named<Supplier<ScoreboardEngine>>> engines() {
+        return Stream.of(
+                Named.of("snapshot", ScoreboardService::new),
+                Named.of("concurrent-map", ConcurrentMapScoreboardEngine::new),
+                Named.of("single-writer", SingleWriterScoreboardEngine::new));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (engine instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testStartUpdateAndSummary(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        //Start three matches and update two of them
+        engine.startMatch(TEAM_A, TEAM_B);
+        engine.startMatch(TEAM_C, TEAM_D);
+        engine.startMatch(TEAM_E, TEAM_F);
+        engine.updateScore(0, 1, 1);
+        engine.updateScore(1, 2, 0);
+
+        //Matches stay in start order, the summary is ordered by total score and then most recent start
+        assertEquals(List.of(TEAM_A, TEAM_C, TEAM_E), engine.getMatches().stream().map(Match::getHomeTeam).toList());
+        assertEquals(List.of("1. " + TEAM_C + " 2 - 0 " + TEAM_D, "2. " + TEAM_A + " 1 - 1 " + TEAM_B, "3. " + TEAM_E + " 0 - 0 " + TEAM_F),
+                engine.getFormatedSortedSummary());
+        assertEquals(TEAM_C, engine.getSortedMatches().getFirst().getHomeTeam());
+        assertEquals(engine.getMatches(), engine.getSnapshot().getMatches(), "Snapshot should contain the same matches");
+        assertEquals(engine.getVersion(), engine.getSnapshot().getVersion(), "Snapshot should have the current version");
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testValidation(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_A, TEAM_B);
+
+        //Invalid names, duplicate teams, invalid indexes and negative scores are rejected
+        assertEquals(CANNOT_BE_NULL_OR_EMPTY, assertThrows(IllegalArgumentException.class, () -> engine.startMatch("", TEAM_C)).getMessage());
+        assertEquals(ALREADY_EXISTS, assertThrows(IllegalArgumentException.class, () -> engine.startMatch(TEAM_A, TEAM_C)).getMessage());
+        assertEquals(MATCH_INDEX_IS_OUT_OF_RANGE, assertThrows(IndexOutOfBoundsException.class, () -> engine.updateScore(1, 1, 1)).getMessage());
+        assertEquals(CANNOT_BE_NEGATIVE, assertThrows(IllegalArgumentException.class, () -> engine.updateScore(0, -1, 1)).getMessage());
+        assertEquals(MATCH_INDEX_IS_OUT_OF_RANGE, assertThrows(IndexOutOfBoundsException.class, () -> engine.finishMatch(-1)).getMessage());
+        //Rejected operations do not change the scoreboard
+        assertEquals(1, engine.getVersion(), "Only the first start should create a version");
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testFinishAndReset(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_A, TEAM_B);
+        engine.startMatch(TEAM_C, TEAM_D);
+        engine.startMatch(TEAM_E, TEAM_F);
+
+        //Finishing the middle match keeps the others in start order
+        engine.finishMatch(1);
+        assertEquals(List.of(TEAM_A, TEAM_E), engine.getMatches().stream().map(Match::getHomeTeam).toList());
+        assertTrue(engine.findMatchesByTeam(TEAM_C).isEmpty(), "Finished team should not be found");
+        //The team of a finished match can play again
+        engine.startMatch(TEAM_C, TEAM_D);
+
+        engine.reset();
+        assertTrue(engine.getMatches().isEmpty(), "Reset should remove all matches");
+        assertTrue(engine.getFormatedSortedSummary().isEmpty(), "Reset should clear the summary");
+        assertTrue(engine.searchMatchesByTeamPrefix("Team", 10).isEmpty(), "Reset should clear the team index");
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testTeamLookupAndSearch(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch("Brazil", "Croatia");
+        engine.startMatch("Belgium", "Brazil");
+        engine.updateScore(0, 3, 0);
+
+        assertEquals(2, engine.findMatchesByTeam("Brazil").size(), "Brazil plays in both matches");
+        assertEquals(3, engine.findMatchesByTeam("Brazil").getFirst().getHomeScore(), "Lookup should return the current score");
+        assertEquals(2, engine.searchMatchesByTeamPrefix("B", 10).size(), "Both matches have a 'B' team");
+        assertEquals(List.of("Brazil 3 - 0 Croatia"), engine.searchMatchesByTeamPrefix("C", 10).stream().map(Match::toString).toList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testImportAndChanges(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_A, TEAM_B);
+        long since = engine.getVersion();
+
+        //Import fixtures, one collides with a running match
+        ImportResult result = engine.importMatches(Stream.of(
+                new Fixture(1, TEAM_C, TEAM_D),
+                new Fixture(2, TEAM_A, TEAM_E),
+                new Fixture(3, TEAM_F, TEAM_G)));
+        assertEquals(2, result.imported());
+        assertEquals(List.of(new ImportResult.RowError(2, ALREADY_EXISTS)), result.errors());
+
+        //The import is a single version, followed by one version per change
+        engine.updateScore(1, 1, 0);
+        engine.finishMatch(0);
+        Changes changes = engine.getChangesSince(since);
+        assertEquals(since + 3, changes.version());
+        assertEquals(List.of(Change.Type.STARTED, Change.Type.STARTED, Change.Type.RERANKED, Change.Type.FINISHED),
+                changes.changes().stream().map(Change::type).toList());
+        assertTrue(engine.getChangesSince(-1).snapshotRequired(), "Unknown versions should require a snapshot");
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testStatistics(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_A, TEAM_B);
+        engine.importMatches(Stream.of(new Fixture(1, TEAM_C, TEAM_D), new Fixture(2, TEAM_B, TEAM_A)));
+        engine.updateScore(0, 3, 1);
+        engine.updateScore(2, 1, 1);
+
+        //Statistics follow starts, imports and updates
+        LiveStatistics statistics = engine.getStatistics(15);
+        assertEquals(3, statistics.matchesInPlay());
+        assertEquals(6, statistics.totalGoals());
+        assertEquals(2, statistics.draws());
+        assertEquals(6, statistics.goalsInWindow());
+        assertEquals(TEAM_A + " 3 - 1 " + TEAM_B, statistics.highestScoringMatch().toString());
+        assertEquals(4, engine.getTeamGoals(TEAM_A), "Goals of both matches of the team");
+
+        //A team stays tracked until its last match is finished
+        engine.finishMatch(0);
+        assertEquals(1, engine.getTeamGoals(TEAM_A));
+        engine.finishMatch(0);
+        assertEquals(1, engine.getTeamGoals(TEAM_A));
+        assertNull(engine.getTeamGoals(TEAM_C), "Team of a finished match should not be tracked");
+        assertEquals(2, engine.getStatistics(15).totalGoals());
+
+        engine.reset();
+        assertEquals(0, engine.getStatistics(15).matchesInPlay());
+        assertNull(engine.getTeamGoals(TEAM_A));
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testTimeline(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_A, TEAM_B);
+        engine.startMatch(TEAM_C, TEAM_D);
+        long id = engine.getMatches().getFirst().getId();
+        engine.updateScore(0, 1, 0);
+        Match afterFirstGoal = engine.getMatches().getFirst();
+        engine.updateScore(0, 1, 1);
+        engine.updateScore(0, 1, 1);
+        engine.updateScore(0, 0, 1);
+
+        //Every change of score is recorded once, with the side that changed; unchanged scores are not recorded
+        List<ScoreChange> timeline = engine.getTimeline(id, Integer.MAX_VALUE);
+        assertEquals(List.of(ScoreChange.Side.HOME, ScoreChange.Side.AWAY, ScoreChange.Side.HOME),
+                timeline.stream().map(ScoreChange::side).toList());
+        assertEquals(List.of("1-0", "1-1", "0-1"),
+                timeline.stream().map(change -> change.homeScore() + "-" + change.awayScore()).toList());
+        assertEquals(List.of(false, false, true), timeline.stream().map(ScoreChange::correction).toList());
+        assertEquals(1, timeline.getFirst().minute());
+        assertEquals(List.of(), engine.getTimeline(id, 0));
+        assertTrue(engine.getTimeline(engine.getMatches().get(1).getId(), Integer.MAX_VALUE).isEmpty());
+        //Recording the timeline leaves the match versions untouched
+        assertEquals("1-0", afterFirstGoal.getHomeScore() + "-" + afterFirstGoal.getAwayScore());
+        assertEquals(1, engine.getMatches().getFirst().getAwayScore());
+
+        //The timeline is released with the match
+        engine.finishMatch(0);
+        assertNull(engine.getTimeline(id, Integer.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testMatchClock(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_A, TEAM_B);
+        Instant started = Instant.now();
+        long since = engine.getVersion();
+
+        //Periods change when the clock passes their end
+        engine.advanceClock(started.plus(Duration.ofMinutes(44)));
+        assertEquals(MatchClock.Period.FIRST_HALF, engine.getMatches().getFirst().getPeriod());
+        engine.advanceClock(started.plus(Duration.ofMinutes(46)));
+        assertEquals(MatchClock.Period.HALF_TIME, engine.getMatches().getFirst().getPeriod());
+        assertEquals(NOT_PLAYING, assertThrows(IllegalArgumentException.class, () -> engine.addTime(0, 2)).getMessage());
+        engine.advanceClock(started.plus(Duration.ofMinutes(61)));
+        assertEquals(MatchClock.Period.SECOND_HALF, engine.getMatches().getFirst().getPeriod());
+
+        //Added time delays the end of the match
+        engine.addTime(0, 3);
+        engine.advanceClock(started.plus(Duration.ofMinutes(107)));
+        assertEquals(3, engine.getMatches().getFirst().getAddedMinutes());
+        engine.advanceClock(started.plus(Duration.ofMinutes(110)));
+        assertTrue(engine.getMatches().isEmpty(), "The match should be finished at the end of the second half");
+        assertNull(engine.getTeamGoals(TEAM_A), "An expired match should leave through the normal finish path");
+        assertEquals(List.of(Change.Type.PERIOD_CHANGED, Change.Type.PERIOD_CHANGED, Change.Type.UPDATED, Change.Type.FINISHED),
+                engine.getChangesSince(since).changes().stream().map(Change::type).toList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testMatchesExpireTogether(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        final int MATCHES = 20_000;
+        Instant started = Instant.now();
+        engine.importMatches(Stream.iterate(1, i -> i + 1).limit(MATCHES).map(i -> new Fixture(i, "Home " + i, "Away " + i)));
+        engine.updateScore(MATCHES - 1, 1, 0);
+        engine.finishMatch(0);
+
+        //All first halves end at the same tick, each match is resolved by id whatever its position
+        long version = engine.getVersion();
+        engine.advanceClock(started.plus(Duration.ofMinutes(46)));
+        List<Match> matches = engine.getMatches();
+        assertEquals(MATCHES - 1, matches.size());
+        assertTrue(matches.stream().allMatch(match -> match.getPeriod() == MatchClock.Period.HALF_TIME));
+        assertEquals("Home 2", matches.getFirst().getHomeTeam());
+        assertEquals(1, matches.getLast().getHomeScore());
+        assertEquals(1, engine.findMatchesByTeam("Home " + MATCHES).getFirst().getHomeScore());
+        //The tick is a single version, so it does not evict a change log smaller than the number of matches
+        assertEquals(version + 1, engine.getVersion());
+        Changes changes = engine.getChangesSince(version);
+        assertFalse(changes.snapshotRequired());
+        assertEquals(MATCHES - 1, changes.changes().size());
+
+        //And the matches are finished together at the end of the second half
+        engine.advanceClock(started.plus(Duration.ofMinutes(61)));
+        engine.advanceClock(started.plus(Duration.ofMinutes(106)));
+        assertTrue(engine.getMatches().isEmpty());
+        assertEquals(0, engine.getStatistics(15).matchesInPlay());
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testFinishedMatchesDoNotExpire(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_A, TEAM_B);
+        engine.startMatch(TEAM_C, TEAM_D);
+        Instant started = Instant.now();
+        engine.finishMatch(0);
+        long version = engine.getVersion();
+
+        //Only the match still in play changes period
+        engine.advanceClock(started.plus(Duration.ofMinutes(46)));
+        assertEquals(version + 1, engine.getVersion());
+        assertEquals(TEAM_C, engine.getChangesSince(version).changes().getFirst().match().getHomeTeam());
+        assertEquals(ADDED_TIME_CANNOT_BE_NEGATIVE, assertThrows(IllegalArgumentException.class, () -> engine.addTime(0, -1)).getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testRankingOrders(Supplier<ScoreboardEngine> engines) {
+        engine = engines.get();
+        engine.startMatch(TEAM_E, TEAM_F);
+        engine.startMatch(TEAM_A, TEAM_B);
+        //The index is created from the matches already started, and then follows every change
+        assertEquals(List.of(TEAM_A, TEAM_E), homeTeams(engine.getSortedMatches(RankingOrder.TEAM_NAME)));
+        engine.startMatch(TEAM_C, TEAM_D);
+        engine.updateScore(0, 1, 1);
+        engine.updateScore(2, 3, 0);
+        engine.updateScore(1, 0, 2);
+
+        assertEquals(List.of(TEAM_C, TEAM_A, TEAM_E), homeTeams(engine.getSortedMatches(RankingOrder.SCORE)));
+        assertEquals(List.of(TEAM_C, TEAM_A, TEAM_E), homeTeams(engine.getSortedMatches(RankingOrder.GOAL_DIFFERENCE)));
+        assertEquals(List.of(TEAM_C, TEAM_E, TEAM_A), homeTeams(engine.getSortedMatches(RankingOrder.HOME_SCORE)));
+        assertEquals(List.of(TEAM_A, TEAM_C, TEAM_E), homeTeams(engine.getSortedMatches(RankingOrder.RECENTLY_UPDATED)));
+        assertEquals(List.of(TEAM_A, TEAM_C, TEAM_E), homeTeams(engine.getSortedMatches(RankingOrder.TEAM_NAME)));
+        assertEquals(List.of("1. " + TEAM_C + " 3 - 0 " + TEAM_D, "2. " + TEAM_E + " 1 - 1 " + TEAM_F, "3. " + TEAM_A + " 0 - 2 " + TEAM_B),
+                engine.getFormatedSortedSummary(RankingOrder.HOME_SCORE));
+
+        //Finished matches leave every index
+        engine.finishMatch(2);
+        assertEquals(List.of(TEAM_E, TEAM_A), homeTeams(engine.getSortedMatches(RankingOrder.HOME_SCORE)));
+        engine.reset();
+        assertTrue(engine.getSortedMatches(RankingOrder.TEAM_NAME).isEmpty(), "Reset should clear the ranking indexes");
+    }
+
+    private static List<String> homeTeams(List<Match> matches) {
+        return matches.stream().map(Match::getHomeTeam).toList();
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    public void testConcurrentStartsOfTheSameTeam(Supplier<ScoreboardEngine> engines) throws InterruptedException {
+        engine = engines.get();
+        final int NUM_THREADS = 8;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final AtomicInteger started = new AtomicInteger();
+        try (ExecutorService executor = newFixedThreadPool(NUM_THREADS)) {
+            //Every thread tries to start a match for the same home team
+            for (int i = 0; i < NUM_THREADS; i++) {
+                int finalI = i;
+                executor.submit(() -> {
+                    try {
+                        startLatch.await();
+                        engine.startMatch(TEAM_A, "Team " + finalI);
+                        started.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        //Expected for all but one thread
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                });
+            }
+            startLatch.countDown();
+        }
+
+        //Exactly one start wins
+        assertEquals(1, started.get(), "Only one match of the team should be started");
+        assertEquals(1, engine.getMatches().size(), "Only one match should be on the scoreboard");
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    @Tag("benchmark")
+    public void testMixedWorkloadThroughput(Supplier<ScoreboardEngine> engines) throws InterruptedException {
+        engine = engines.get();
+        final int MATCHES = 1_000;
+        final int NUM_THREADS = 4;
+        final int OPERATIONS_PER_THREAD = 20_000;
+        engine.importMatches(Stream.iterate(1, i -> i + 1).limit(MATCHES).map(i -> new Fixture(i, "Home " + i, "Away " + i)));
+
+        //Each thread mixes 90% summary reads with 10% score updates
+        long start = System.nanoTime();
+        try (ExecutorService executor = newFixedThreadPool(NUM_THREADS)) {
+            for (int t = 0; t < NUM_THREADS; t++) {
+                int seed = t;
+                executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        if (random.nextInt(10) == 0) {
+                            engine.updateScore(random.nextInt(MATCHES), random.nextInt(10), random.nextInt(10));
+                        } else {
+                            engine.getSortedMatches();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(MATCHES, engine.getMatches().size(), "No match should be lost");
+        System.out.printf("%s: %d operations on %d matches in %d ms (%.0f ops/s)%n", engine.getClass().getSimpleName(),
+                NUM_THREADS * OPERATIONS_PER_THREAD, MATCHES, elapsed / 1_000_000, NUM_THREADS * OPERATIONS_PER_THREAD / (elapsed / 1e9));
+    }
+}
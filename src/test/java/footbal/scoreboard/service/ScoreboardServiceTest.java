@@ -1,12 +1,17 @@
 package footbal.scoreboard.service;
 
+import footbal.scoreboard.Change;
 import footbal.scoreboard.Match;
+import footbal.scoreboard.ScoreboardSnapshot;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static footbal.scoreboard.service.ScoreboardService.*;
 import static java.util.concurrent.Executors.newFixedThreadPool;
@@ -233,11 +238,10 @@ public class ScoreboardServiceTest {
             // Wait for all tasks to finish
             doneLatch.await();
 
-            // The last score update's home score
-            int expectedFinalScoreA = NUM_THREADS - 1;
-
-            assertEquals(expectedFinalScoreA, scoreboardService.getSortedMatches().getFirst().getHomeScore(), "Home score is incorrect.");
-            assertEquals(NUM_THREADS, scoreboardService.getSortedMatches().getFirst().getAwayScore(), "Away score is incorrect.");
+            // Any update may be the last one, but its home and away scores must be applied together
+            Match match = scoreboardService.getSortedMatches().getFirst();
+            assertTrue(match.getHomeScore() >= 1 && match.getHomeScore() <= NUM_THREADS, "Home score is incorrect.");
+            assertEquals(match.getHomeScore() + 1, match.getAwayScore(), "Away score is incorrect.");
 
             executor.shutdown();
         }
@@ -355,6 +359,182 @@ public class ScoreboardServiceTest {
         assertTrue(scoreboardService.getFormatedSortedSummary().isEmpty(), "Summary should be empty after reset");
     }
 
+    @Test
+    public void testSnapshotIsImmutableAndVersioned() {
+        //Start a match and take a snapshot
+        scoreboardService.startMatch(TEAM_A, TEAM_B);
+        ScoreboardSnapshot before = scoreboardService.getSnapshot();
+
+        //Update the score and start another match
+        scoreboardService.updateScore(0, 2, 1);
+        scoreboardService.startMatch(TEAM_C, TEAM_D);
+        ScoreboardSnapshot after = scoreboardService.getSnapshot();
+
+        //The old snapshot still shows the state at the time it was taken
+        assertEquals(List.of("1. " + TEAM_A + " 0 - 0 " + TEAM_B), before.getSummary(), "Old snapshot should not change");
+        assertEquals(1, before.getMatches().size(), "Old snapshot should contain one match");
+        //The new snapshot has a newer version and reflects all changes
+        assertTrue(after.getVersion() > before.getVersion(), "Version should increase with every change");
+        assertEquals(List.of("1. " + TEAM_A + " 2 - 1 " + TEAM_B, "2. " + TEAM_C + " 0 - 0 " + TEAM_D), after.getSummary());
+        //Reads of the same version return the same instances
+        assertSame(after.getMatches(), scoreboardService.getMatches(), "Matches should not be copied on read");
+        assertSame(after.getSortedMatches(), scoreboardService.getSortedMatches(), "Sorted matches should be computed once per version");
+    }
+
+    @Test
+    public void testFindMatchesByTeam() {
+        //Start two matches where Team B plays away in the first and home in the second
+        scoreboardService.startMatch(TEAM_A, TEAM_B);
+        scoreboardService.startMatch(TEAM_B, TEAM_C);
+        scoreboardService.updateScore(0, 1, 0);
+
+        //Exact lookup returns the current state of every match the team plays in
+        assertEquals(List.of("Team A 1 - 0 Team B"), scoreboardService.findMatchesByTeam(TEAM_A).stream().map(Match::toString).toList());
+        assertEquals(2, scoreboardService.findMatchesByTeam(TEAM_B).size(), "Team B should be found in both matches");
+        assertTrue(scoreboardService.findMatchesByTeam(TEAM_D).isEmpty(), "Unknown team should not be found");
+
+        //Finishing a match removes it from the index
+        scoreboardService.finishMatch(0);
+        assertTrue(scoreboardService.findMatchesByTeam(TEAM_A).isEmpty(), "Finished match should not be found");
+        assertEquals(1, scoreboardService.findMatchesByTeam(TEAM_B).size(), "Team B should still be found in the second match");
+    }
+
+    @Test
+    public void testSearchMatchesByTeamPrefix() {
+        //Start matches with teams sharing prefixes
+        scoreboardService.startMatch("Brazil", "Croatia");
+        scoreboardService.startMatch("Belgium", "Bosnia");
+        scoreboardService.startMatch("Spain", "Germany");
+
+        //Prefix search returns every match with a team name starting with the prefix
+        assertEquals(2, scoreboardService.searchMatchesByTeamPrefix("B", 10).size(), "Both matches with 'B' teams should be found");
+        assertEquals(List.of("Brazil 0 - 0 Croatia"), scoreboardService.searchMatchesByTeamPrefix("Br", 10).stream().map(Match::toString).toList());
+        assertEquals(1, scoreboardService.searchMatchesByTeamPrefix("B", 1).size(), "Result should be limited");
+        assertTrue(scoreboardService.searchMatchesByTeamPrefix("X", 10).isEmpty(), "No team should match the prefix");
+
+        //Finished and reset matches are no longer searchable
+        scoreboardService.finishMatch(1);
+        assertEquals(1, scoreboardService.searchMatchesByTeamPrefix("B", 10).size(), "Finished match should not be found");
+        scoreboardService.reset();
+        assertTrue(scoreboardService.searchMatchesByTeamPrefix("S", 10).isEmpty(), "Reset should clear the index");
+    }
+
+    @Test
+    public void testImportMatches() {
+        //Start a match before the import
+        scoreboardService.startMatch(TEAM_A, TEAM_B);
+        long version = scoreboardService.getSnapshot().getVersion();
+
+        //Import fixtures with an empty name, a team already playing and a team used twice in the import
+        ImportResult result = scoreboardService.importMatches(Stream.of(
+                new Fixture(1, TEAM_C, TEAM_D),
+                new Fixture(2, "", TEAM_E),
+                new Fixture(3, TEAM_A, TEAM_F),
+                new Fixture(4, TEAM_C, TEAM_G),
+                Fixture.malformed(5, "Malformed row"),
+                new Fixture(6, TEAM_H, TEAM_I)));
+
+        //Valid fixtures are started, every invalid row is reported with its line
+        assertEquals(2, result.imported(), "Two fixtures should be imported");
+        assertEquals(4, result.rejected(), "Four fixtures should be rejected");
+        assertEquals(List.of(
+                new ImportResult.RowError(2, CANNOT_BE_NULL_OR_EMPTY),
+                new ImportResult.RowError(3, ALREADY_EXISTS),
+                new ImportResult.RowError(4, ALREADY_EXISTS),
+                new ImportResult.RowError(5, "Malformed row")), result.errors());
+        //All imported matches are published in a single state transition
+        assertEquals(version + 1, scoreboardService.getSnapshot().getVersion(), "Import should publish one new version");
+        assertEquals(List.of("1. " + TEAM_H + " 0 - 0 " + TEAM_I, "2. " + TEAM_C + " 0 - 0 " + TEAM_D, "3. " + TEAM_A + " 0 - 0 " + TEAM_B),
+                scoreboardService.getFormatedSortedSummary());
+        //Imported teams are indexed
+        assertEquals(1, scoreboardService.findMatchesByTeam(TEAM_H).size(), "Imported team should be indexed");
+    }
+
+    @Test
+    public void testImportRejectedRowsDoNotTakeTheirTeams() {
+        //Team A is already playing
+        scoreboardService.startMatch(TEAM_A, TEAM_J);
+
+        //A rejected row leaves its other team free for the rows after it
+        ImportResult result = scoreboardService.importMatches(Stream.of(
+                new Fixture(1, TEAM_A, TEAM_B),
+                new Fixture(2, TEAM_C, TEAM_B),
+                new Fixture(3, TEAM_C, TEAM_D),
+                new Fixture(4, TEAM_E, TEAM_D)));
+
+        assertEquals(2, result.imported(), "Rows reusing a free team of a rejected row should be imported");
+        assertEquals(List.of(
+                new ImportResult.RowError(1, ALREADY_EXISTS),
+                new ImportResult.RowError(3, ALREADY_EXISTS)), result.errors());
+        assertEquals(1, scoreboardService.findMatchesByTeam(TEAM_E).size(), "Team E should be playing");
+
+        //A row rejected for a used home team does not take its away team either
+        scoreboardService.reset();
+        result = scoreboardService.importMatches(Stream.of(
+                new Fixture(1, TEAM_A, TEAM_B),
+                new Fixture(2, TEAM_A, TEAM_C),
+                new Fixture(3, TEAM_D, TEAM_C)));
+        assertEquals(2, result.imported(), "Only the fixture reusing the home team should be rejected");
+        assertEquals(List.of(new ImportResult.RowError(2, ALREADY_EXISTS)), result.errors());
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testImportHundredThousandFixturesThroughput() {
+        //Import 100k fixtures in one call
+        final int FIXTURES = 100_000;
+        long start = System.nanoTime();
+        ImportResult result = scoreboardService.importMatches(LongStream.rangeClosed(1, FIXTURES)
+                .mapToObj(line -> new Fixture(line, "Home " + line, "Away " + line)));
+        long elapsed = System.nanoTime() - start;
+
+        //Every fixture is started
+        assertEquals(FIXTURES, result.imported(), "All fixtures should be imported");
+        assertEquals(FIXTURES, scoreboardService.getMatches().size(), "All matches should be on the scoreboard");
+        System.out.printf("Imported %d fixtures in %d ms (%.0f fixtures/s)%n",
+                FIXTURES, elapsed / 1_000_000, FIXTURES / (elapsed / 1e9));
+    }
+
+    @Test
+    public void testGetChangesSince() {
+        //Start two matches and remember the version
+        scoreboardService.startMatch(TEAM_A, TEAM_B);
+        scoreboardService.startMatch(TEAM_C, TEAM_D);
+        long since = scoreboardService.getSnapshot().getVersion();
+
+        //Re-rank, update without re-ranking and finish a match
+        scoreboardService.updateScore(0, 1, 0);
+        scoreboardService.updateScore(0, 0, 1);
+        scoreboardService.finishMatch(1);
+
+        //Only the changes after the remembered version are returned
+        Changes changes = scoreboardService.getChangesSince(since);
+        assertFalse(changes.snapshotRequired(), "Changes should still be in the log");
+        assertEquals(since + 3, changes.version(), "Every change should create a new version");
+        assertEquals(List.of(Change.Type.RERANKED, Change.Type.UPDATED, Change.Type.FINISHED),
+                changes.changes().stream().map(Change::type).toList());
+        assertEquals(TEAM_C, changes.changes().get(2).match().getHomeTeam(), "Finished match should be reported");
+        assertEquals(changes.changes().get(0).match().getId(), changes.changes().get(1).match().getId(), "Updated match should keep its id");
+
+        //Nothing changed since the current version
+        assertTrue(scoreboardService.getChangesSince(changes.version()).changes().isEmpty(), "No changes should be returned");
+    }
+
+    @Test
+    public void testGetChangesSinceEvictedVersion() {
+        //Keep only the changes of the last two versions
+        scoreboardService = new ScoreboardService(2);
+        scoreboardService.startMatch(TEAM_A, TEAM_B);
+        scoreboardService.updateScore(0, 1, 0);
+        scoreboardService.updateScore(0, 2, 0);
+
+        //Older versions require a full snapshot, recent ones are still available
+        assertTrue(scoreboardService.getChangesSince(0).snapshotRequired(), "Evicted version should require a snapshot");
+        assertEquals(2, scoreboardService.getChangesSince(1).changes().size(), "Recent changes should be returned");
+        //Versions from the future require a snapshot as well
+        assertTrue(scoreboardService.getChangesSince(100).snapshotRequired(), "Unknown version should require a snapshot");
+    }
+
     private void startAndAssertTwoMatches() {
         //Start two matches
         scoreboardService.startMatch(TEAM_A, TEAM_B);
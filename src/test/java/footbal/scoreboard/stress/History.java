@@ -0,0 +1,66 @@
+package footbal.scoreboard.stress;
+
+import footbal.scoreboard.Match;
+import footbal.scoreboard.service.ScoreboardEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Records the calls made against a {@link ScoreboardEngine} from many threads, with invocation and response
+ * ticks, so that the history can be checked for linearizability afterwards.
+ */
+public class History {
+    public static final String OK = "ok";
+    private final ScoreboardEngine engine;
+    private final AtomicLong clock = new AtomicLong();
+    private final ConcurrentLinkedQueue<Operation> operations = new ConcurrentLinkedQueue<>();
+
+    public History(ScoreboardEngine engine) {
+        this.engine = engine;
+    }
+
+    public void startMatch(int thread, String homeTeam, String awayTeam) {
+        record(thread, Operation.Type.START, List.of(homeTeam, awayTeam), () -> {
+            engine.startMatch(homeTeam, awayTeam);
+            return OK;
+        });
+    }
+
+    public void updateScore(int thread, int index, int homeScore, int awayScore) {
+        record(thread, Operation.Type.UPDATE, List.of(index, homeScore, awayScore), () -> {
+            engine.updateScore(index, homeScore, awayScore);
+            return OK;
+        });
+    }
+
+    public void finishMatch(int thread, int index) {
+        record(thread, Operation.Type.FINISH, List.of(index), () -> {
+            engine.finishMatch(index);
+            return OK;
+        });
+    }
+
+    public void readMatches(int thread) {
+        record(thread, Operation.Type.READ, List.of(), () -> engine.getMatches().stream().map(Match::toString).toList());
+    }
+
+    public List<Operation> getOperations() {
+        return new ArrayList<>(operations);
+    }
+
+    private void record(int thread, Operation.Type type, List<Object> arguments, Supplier<Object> call) {
+        long invoked = clock.incrementAndGet();
+        Object result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            //Failures are part of the observable behaviour, the model has to predict them as well
+            result = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        operations.add(new Operation(thread, type, arguments, result, invoked, clock.incrementAndGet()));
+    }
+}
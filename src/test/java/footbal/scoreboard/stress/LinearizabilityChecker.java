@@ -0,0 +1,64 @@
+package footbal.scoreboard.stress;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wing &amp; Gong style linearizability checker with memoization of visited configurations (as in Lowe's
+ * improvement of the algorithm).
+ * <p>
+ * A history is linearizable if its operations can be put in a sequential order that respects real-time
+ * precedence and in which every operation returns what the {@link ScoreboardModel} predicts. The search tries
+ * every minimal operation (one that no pending operation precedes) as the next one and backtracks on a mismatch.
+ * Histories are limited to 64 operations, which is plenty for the short per-round histories of a stress test.
+ */
+public class LinearizabilityChecker {
+    public static final int MAX_OPERATIONS = 64;
+
+    private final List<Operation> operations;
+    private final Set<Configuration> visited = new HashSet<>();
+
+    private LinearizabilityChecker(List<Operation> operations) {
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_OPERATIONS + " operations can be checked.");
+        }
+        this.operations = operations;
+    }
+
+    public static boolean isLinearizable(List<Operation> operations, ScoreboardModel initial) {
+        return new LinearizabilityChecker(operations).search(0L, initial);
+    }
+
+    private boolean search(long linearized, ScoreboardModel state) {
+        if (Long.bitCount(linearized) == operations.size()) {
+            return true;
+        }
+        if (!visited.add(new Configuration(linearized, state))) {
+            return false;
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            if ((linearized & (1L << i)) != 0 || !isMinimal(linearized, i)) {
+                continue;
+            }
+            ScoreboardModel.Step step = state.apply(operations.get(i));
+            if (step.result().equals(operations.get(i).result()) && search(linearized | (1L << i), step.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMinimal(long linearized, int candidate) {
+        Operation operation = operations.get(candidate);
+        for (int j = 0; j < operations.size(); j++) {
+            if ((linearized & (1L << j)) == 0 && operations.get(j).precedes(operation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Configuration(long linearized, ScoreboardModel state) {
+    }
+}
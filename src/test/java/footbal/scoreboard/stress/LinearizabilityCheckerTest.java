@@ -0,0 +1,42 @@
+package footbal.scoreboard.stress;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinearizabilityCheckerTest {
+
+    @Test
+    public void testConcurrentOperationsMayBeReordered() {
+        //The read overlaps the start, so it may be linearized before it
+        List<Operation> history = List.of(
+                new Operation(0, Operation.Type.START, List.of("A", "B"), History.OK, 1, 4),
+                new Operation(1, Operation.Type.READ, List.of(), List.of(), 2, 3));
+
+        assertTrue(LinearizabilityChecker.isLinearizable(history, ScoreboardModel.EMPTY), "Overlapping read may miss the start");
+    }
+
+    @Test
+    public void testStaleReadIsDetected() {
+        //The read starts after the start has returned, so it must see the match
+        List<Operation> history = List.of(
+                new Operation(0, Operation.Type.START, List.of("A", "B"), History.OK, 1, 2),
+                new Operation(1, Operation.Type.READ, List.of(), List.of(), 3, 4));
+
+        assertFalse(LinearizabilityChecker.isLinearizable(history, ScoreboardModel.EMPTY), "Stale read should be detected");
+    }
+
+    @Test
+    public void testTornReadIsDetected() {
+        //No sequential order can produce a score mixing both updates
+        List<Operation> history = List.of(
+                new Operation(0, Operation.Type.START, List.of("A", "B"), History.OK, 1, 2),
+                new Operation(0, Operation.Type.UPDATE, List.of(0, 1, 1), History.OK, 3, 6),
+                new Operation(1, Operation.Type.UPDATE, List.of(0, 2, 2), History.OK, 4, 7),
+                new Operation(2, Operation.Type.READ, List.of(), List.of("A 1 - 2 B"), 5, 8));
+
+        assertFalse(LinearizabilityChecker.isLinearizable(history, ScoreboardModel.EMPTY), "Torn read should be detected");
+    }
+}
@@ -0,0 +1,27 @@
+package footbal.scoreboard.stress;
+
+import java.util.List;
+
+/**
+ * One completed call recorded in a {@link History}: what was invoked, what it returned and when.
+ * {@code invoked} and {@code returned} are ticks of a logical clock shared by all threads, so an operation
+ * precedes another in real time exactly when its {@code returned} tick is lower than the other's {@code invoked}.
+ */
+public record Operation(int thread, Type type, List<Object> arguments, Object result, long invoked, long returned) {
+
+    public enum Type {
+        START,
+        UPDATE,
+        FINISH,
+        READ
+    }
+
+    public boolean precedes(Operation other) {
+        return returned < other.invoked;
+    }
+
+    @Override
+    public String toString() {
+        return "T" + thread + " " + type + arguments + " -> " + result + " [" + invoked + ", " + returned + "]";
+    }
+}
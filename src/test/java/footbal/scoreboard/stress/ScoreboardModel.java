@@ -0,0 +1,67 @@
+package footbal.scoreboard.stress;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static footbal.scoreboard.service.ScoreboardEngine.*;
+
+/**
+ * Sequential specification of the scoreboard used by the {@link LinearizabilityChecker}. The model is
+ * immutable, every operation returns the next state together with the result the real engine must produce.
+ */
+public record ScoreboardModel(List<Entry> matches) {
+    public static final ScoreboardModel EMPTY = new ScoreboardModel(List.of());
+
+    public record Entry(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        @Override
+        public String toString() {
+            return homeTeam + " " + homeScore + " - " + awayScore + " " + awayTeam;
+        }
+    }
+
+    public record Step(ScoreboardModel next, Object result) {
+    }
+
+    public Step apply(Operation operation) {
+        List<Object> arguments = operation.arguments();
+        return switch (operation.type()) {
+            case START -> start((String) arguments.get(0), (String) arguments.get(1));
+            case UPDATE -> update((Integer) arguments.get(0), (Integer) arguments.get(1), (Integer) arguments.get(2));
+            case FINISH -> finish((Integer) arguments.get(0));
+            case READ -> new Step(this, matches.stream().map(Entry::toString).toList());
+        };
+    }
+
+    private Step start(String homeTeam, String awayTeam) {
+        for (Entry entry : matches) {
+            if (entry.homeTeam().equals(homeTeam) || entry.awayTeam().equals(awayTeam)) {
+                return new Step(this, "IllegalArgumentException: " + ALREADY_EXISTS);
+            }
+        }
+        List<Entry> next = new ArrayList<>(matches);
+        next.add(new Entry(homeTeam, awayTeam, 0, 0));
+        return new Step(new ScoreboardModel(List.copyOf(next)), History.OK);
+    }
+
+    private Step update(int index, int homeScore, int awayScore) {
+        if (index < 0 || index >= matches.size()) {
+            return new Step(this, "IndexOutOfBoundsException: " + MATCH_INDEX_IS_OUT_OF_RANGE);
+        }
+        if (homeScore < 0 || awayScore < 0) {
+            return new Step(this, "IllegalArgumentException: " + CANNOT_BE_NEGATIVE);
+        }
+        Entry entry = matches.get(index);
+        List<Entry> next = new ArrayList<>(matches);
+        next.set(index, new Entry(entry.homeTeam(), entry.awayTeam(), homeScore, awayScore));
+        return new Step(new ScoreboardModel(List.copyOf(next)), History.OK);
+    }
+
+    private Step finish(int index) {
+        if (index < 0 || index >= matches.size()) {
+            return new Step(this, "IndexOutOfBoundsException: " + MATCH_INDEX_IS_OUT_OF_RANGE);
+        }
+        List<Entry> next = new ArrayList<>(matches);
+        next.remove(index);
+        return new Step(new ScoreboardModel(List.copyOf(next)), History.OK);
+    }
+}
@@ -0,0 +1,265 @@
+package footbal.scoreboard.stress;
+
+import footbal.scoreboard.Match;
+import footbal.scoreboard.RankingOrder;
+import footbal.scoreboard.service.ScoreboardEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress tests driving every {@link ScoreboardEngine} backend from many threads at once.
+ * <p>
+ * Each test plays the role of a jcstress "actor/arbiter" pair: actors hammer the engine concurrently and
+ * every observed outcome is checked against what a correct sequential scoreboard allows. Each test publishes
+ * the engine, its violation count and the operations per second of its concurrent phase as a JUnit report entry,
+ * and the same line ends the message of a failed check.
+ */
+public class ScoreboardStressTest {
+    private static final String ENGINES = "footbal.scoreboard.service.ScoreboardEngineConformanceTest#engines";
+    private static final String[] TEAMS = {"A", "B", "C", "D"};
+
+    private ScoreboardEngine engine;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (engine instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(ENGINES)
+    public void testScoresAreNeverTorn(Supplier<ScoreboardEngine> engines, TestReporter reporter) throws InterruptedException {
+        engine = engines.get();
+        engine.startMatch("Home", "Away");
+        final int WRITERS = 2;
+        final int UPDATES_PER_WRITER = 20_000;
+        AtomicInteger writersDone = new AtomicInteger();
+        AtomicLong reads = new AtomicLong();
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+
+        //Writers only ever set equal home and away scores, readers must never see them differ
+        long elapsed = runConcurrently(WRITERS * 2, thread -> {
+            if (thread < WRITERS) {
+                for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                    engine.updateScore(0, i, i);
+                }
+                writersDone.incrementAndGet();
+                return;
+            }
+            while (writersDone.get() < WRITERS) {
+                checkNotTorn(engine.getMatches().getFirst(), violations);
+                checkNotTorn(engine.getSortedMatches().getFirst(), violations);
+                checkNotTorn(engine.findMatchesByTeam("Home").getFirst(), violations);
+                reads.addAndGet(3);
+            }
+        });
+
+        String summary = report(reporter, "torn scores", violations, WRITERS * UPDATES_PER_WRITER + reads.get(), elapsed);
+        assertTrue(violations.isEmpty(), "Home and away scores should always be read as a pair: " + violations.peek() + "; " + summary);
+    }
+
+    @ParameterizedTest
+    @MethodSource(ENGINES)
+    public void testIndexesIncludeEveryPublishedVersion(Supplier<ScoreboardEngine> engines, TestReporter reporter) throws InterruptedException {
+        engine = engines.get();
+        engine.startMatch("Home", "Away");
+        final int UPDATES = 20_000;
+        final long base = engine.getVersion();
+        AtomicInteger writersDone = new AtomicInteger();
+        AtomicLong reads = new AtomicLong();
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+
+        //Version base + i sets the home score to i, so anything read after version v has a home score of at least v - base
+        long elapsed = runConcurrently(3, thread -> {
+            if (thread == 0) {
+                for (int i = 1; i <= UPDATES; i++) {
+                    engine.updateScore(0, i, 0);
+                }
+                writersDone.incrementAndGet();
+                return;
+            }
+            while (writersDone.get() == 0) {
+                long expected = engine.getVersion() - base;
+                checkAtLeast("ranking", engine.getSortedMatches(RankingOrder.TEAM_NAME).getFirst().getHomeScore(), expected, violations);
+                checkAtLeast("team index", engine.findMatchesByTeam("Home").getFirst().getHomeScore(), expected, violations);
+                checkAtLeast("statistics", engine.getStatistics(15).totalGoals(), expected, violations);
+                reads.addAndGet(4);
+            }
+        });
+
+        String summary = report(reporter, "published indexes", violations, UPDATES + reads.get(), elapsed);
+        assertTrue(violations.isEmpty(), "Indexes should include the version read before them: " + violations.peek() + "; " + summary);
+    }
+
+    private static void checkAtLeast(String index, long score, long expected, ConcurrentLinkedQueue<String> violations) {
+        if (score < expected) {
+            violations.add(index + " has score " + score + " after version " + expected);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(ENGINES)
+    public void testStartMatchIsAtomic(Supplier<ScoreboardEngine> engines, TestReporter reporter) throws InterruptedException {
+        engine = engines.get();
+        final int ROUNDS = 200;
+        final int THREADS = 4;
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+
+        long elapsed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            engine.reset();
+            AtomicInteger started = new AtomicInteger();
+            //All threads race to start a match for the same home team (check-then-act)
+            elapsed += runConcurrently(THREADS, thread -> {
+                try {
+                    engine.startMatch("Home", "Away " + thread);
+                    started.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    //Lost the race
+                }
+            });
+            if (started.get() != 1 || engine.getMatches().size() != 1) {
+                violations.add("round " + round + ": " + started.get() + " starts, " + engine.getMatches().size() + " matches");
+            }
+        }
+
+        String summary = report(reporter, "start atomicity", violations, (long) ROUNDS * THREADS, elapsed);
+        assertTrue(violations.isEmpty(), "Exactly one start should win every round: " + violations.peek() + "; " + summary);
+    }
+
+    @ParameterizedTest
+    @MethodSource(ENGINES)
+    public void testIndexValidationIsAtomic(Supplier<ScoreboardEngine> engines, TestReporter reporter) throws InterruptedException {
+        engine = engines.get();
+        final int MATCHES = 500;
+        final int THREADS = 4;
+        for (int i = 0; i < MATCHES; i++) {
+            engine.startMatch("Home " + i, "Away " + i);
+        }
+        AtomicInteger finished = new AtomicInteger();
+        AtomicLong operations = new AtomicLong();
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+
+        //Matches disappear while other threads validate and use indexes (validate-then-get)
+        long elapsed = runConcurrently(THREADS, thread -> {
+            Random random = new Random(thread);
+            while (!engine.getMatches().isEmpty()) {
+                try {
+                    if (thread % 2 == 0) {
+                        engine.finishMatch(0);
+                        finished.incrementAndGet();
+                    } else {
+                        engine.updateScore(random.nextInt(MATCHES), 1, 1);
+                    }
+                } catch (IndexOutOfBoundsException e) {
+                    //A valid outcome when the index no longer exists
+                } catch (RuntimeException e) {
+                    violations.add(e.toString());
+                }
+                operations.incrementAndGet();
+            }
+        });
+
+        String summary = report(reporter, "index validation", violations, operations.get(), elapsed);
+        assertTrue(violations.isEmpty(), "Only index errors are allowed: " + violations.peek() + "; " + summary);
+        assertEquals(MATCHES, finished.get(), "Every match should be finished exactly once");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ENGINES)
+    public void testHistoriesAreLinearizable(Supplier<ScoreboardEngine> engines, TestReporter reporter) throws InterruptedException {
+        engine = engines.get();
+        final int ROUNDS = 300;
+        final int THREADS = 3;
+        final int OPERATIONS_PER_THREAD = 5;
+        List<List<Operation>> violations = new ArrayList<>();
+
+        long elapsed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            engine.reset();
+            History history = new History(engine);
+            int seed = round;
+            //Small random histories over few teams and indexes, so that operations really interfere
+            elapsed += runConcurrently(THREADS, thread -> {
+                Random random = new Random(seed * 31L + thread);
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    switch (random.nextInt(4)) {
+                        case 0 -> history.startMatch(thread, TEAMS[random.nextInt(TEAMS.length)], TEAMS[random.nextInt(TEAMS.length)]);
+                        case 1 -> history.updateScore(thread, random.nextInt(3), random.nextInt(3), random.nextInt(3));
+                        case 2 -> history.finishMatch(thread, random.nextInt(3));
+                        default -> history.readMatches(thread);
+                    }
+                }
+            });
+            List<Operation> operations = history.getOperations();
+            if (!LinearizabilityChecker.isLinearizable(operations, ScoreboardModel.EMPTY)) {
+                violations.add(operations);
+            }
+        }
+
+        String summary = report(reporter, "linearizability", violations, (long) ROUNDS * THREADS * OPERATIONS_PER_THREAD, elapsed);
+        assertTrue(violations.isEmpty(), "Every history should be linearizable: " + (violations.isEmpty() ? "" : violations.getFirst()) + "; " + summary);
+    }
+
+    private static void checkNotTorn(Match match, ConcurrentLinkedQueue<String> violations) {
+        if (match.getHomeScore() != match.getAwayScore()) {
+            violations.add(match.toString());
+        }
+    }
+
+    /**
+     * Publishes the result of a check as a report entry and returns it.
+     */
+    private String report(TestReporter reporter, String check, Collection<?> violations, long operations, long elapsedNanos) {
+        String summary = String.format("%s [%s]: %d violations, %d operations in %d ms (%.0f ops/s)", engine.getClass().getSimpleName(),
+                check, violations.size(), operations, elapsedNanos / 1_000_000, operations / Math.max(elapsedNanos / 1e9, 1e-9));
+        reporter.publishEntry(check, summary);
+        return summary;
+    }
+
+    /**
+     * Runs the actor on the given number of threads, released at the same time, and returns the elapsed nanos.
+     */
+    private static long runConcurrently(int threads, IntConsumer actor) throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        long start;
+        try (ExecutorService executor = newFixedThreadPool(threads)) {
+            for (int thread = 0; thread < threads; thread++) {
+                int finalThread = thread;
+                executor.submit(() -> {
+                    try {
+                        startLatch.await();
+                        actor.accept(finalThread);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+            }
+            start = System.nanoTime();
+            startLatch.countDown();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(failures.isEmpty(), "Actor failed: " + failures.peek());
+        return elapsed;
+    }
+}
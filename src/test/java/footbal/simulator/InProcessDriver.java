@@ -0,0 +1,38 @@
+package footbal.simulator;
+
+import footbal.scoreboard.service.Changes;
+import footbal.scoreboard.service.ScoreboardEngine;
+
+public class InProcessDriver implements ScoreboardDriver {
+    private final ScoreboardEngine engine;
+
+    public InProcessDriver(ScoreboardEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        engine.startMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void updateScore(int matchIndex, int homeScore, int awayScore) {
+        engine.updateScore(matchIndex, homeScore, awayScore);
+    }
+
+    @Override
+    public void finishMatch(int matchIndex) {
+        engine.finishMatch(matchIndex);
+    }
+
+    @Override
+    public void pollSummary() {
+        engine.getFormatedSortedSummary();
+    }
+
+    @Override
+    public long changesSince(long version) {
+        Changes changes = engine.getChangesSince(version);
+        return changes.snapshotRequired() ? engine.getSnapshot().getVersion() : changes.version();
+    }
+}
@@ -0,0 +1,45 @@
+package footbal.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples of one kind of operation, recorded by a single thread and merged once the run is over.
+ */
+public final class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int size;
+
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void addAll(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    public Percentiles percentiles() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Percentiles(size, percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), size == 0 ? 0 : sorted[size - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * Latency percentiles in nanoseconds.
+     */
+    public record Percentiles(int count, long p50, long p90, long p99, long p999, long max) {
+    }
+}
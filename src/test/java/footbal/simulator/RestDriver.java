@@ -0,0 +1,80 @@
+package footbal.simulator;
+
+import org.springframework.boot.json.JsonParserFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Drives the REST API over HTTP; any response other than 2xx (including admission control rejections)
+ * is reported as an error.
+ */
+public class RestDriver implements ScoreboardDriver {
+    private static final String VERSION_HEADER = "X-Scoreboard-Version";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final String baseUrl;
+
+    public RestDriver(String baseUrl) {
+        this.baseUrl = baseUrl + "/vk/scoreboard";
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        send("POST", "/matches?homeTeam=" + encode(homeTeam) + "&awayTeam=" + encode(awayTeam));
+    }
+
+    @Override
+    public void updateScore(int matchIndex, int homeScore, int awayScore) {
+        send("PUT", "/matches/" + matchIndex + "/score?homeScore=" + homeScore + "&awayScore=" + awayScore);
+    }
+
+    @Override
+    public void finishMatch(int matchIndex) {
+        send("DELETE", "/matches/" + matchIndex);
+    }
+
+    @Override
+    public void pollSummary() {
+        send("GET", "/summary");
+    }
+
+    @Override
+    public long changesSince(long version) {
+        HttpResponse<String> response = send("GET", "/changes?since=" + version);
+        Map<String, Object> changes = JsonParserFactory.getJsonParser().parseMap(response.body());
+        if (Boolean.TRUE.equals(changes.get("snapshotRequired"))) {
+            return Long.parseLong(send("GET", "/matches").headers().firstValue(VERSION_HEADER).orElse("0"));
+        }
+        return ((Number) changes.get("version")).longValue();
+    }
+
+    private HttpResponse<String> send(String method, String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(method + " " + path + " returned " + response.statusCode());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,67 @@
+package footbal.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Simulated tournament and load mix, read from a properties file so that the same scenario can be replayed
+ * before and after a change. Times are simulated minutes.
+ *
+ * @param seed                   seed of the event stream, the same seed always gives the same stream
+ * @param matches                number of matches of the tournament
+ * @param kickoffWindowMinutes   kickoffs are spread over this window...
+ * @param kickoffIntervalMinutes ...in waves this many minutes apart
+ * @param goalsPerMatch          mean of the Poisson distributed number of goals of a match
+ * @param correctionRate         probability that a goal is disallowed (corrected) a minute later
+ * @param maxAddedMinutes        each match lasts 90 minutes plus up to this many added minutes
+ * @param durationMinutes        events after this time are not played, 0 to play the whole tournament
+ * @param readers                number of concurrent reader threads
+ * @param readsPerReader         requests made by every reader
+ * @param subscribeRatio         share of reader requests fetching changes (subscribers) instead of the summary (pollers)
+ * @param timeScale              simulated seconds played per real second, 0 to play the events as fast as possible
+ * @param target                 {@code in-process} or {@code rest}
+ * @param engine                 engine driven in process: {@code snapshot}, {@code concurrent-map} or {@code single-writer}
+ * @param restUrl                base URL of the REST API
+ */
+public record Scenario(String name, long seed, int matches, int kickoffWindowMinutes, int kickoffIntervalMinutes,
+                       double goalsPerMatch, double correctionRate, int maxAddedMinutes, int durationMinutes,
+                       int readers, int readsPerReader, double subscribeRatio, double timeScale,
+                       String target, String engine, String restUrl) {
+
+    /**
+     * Loads a scenario from a file, or from the classpath if there is no such file.
+     */
+    public static Scenario load(String location) {
+        Properties properties = new Properties();
+        Path path = Path.of(location);
+        try (InputStream in = Files.exists(path) ? Files.newInputStream(path) : Scenario.class.getClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Scenario not found: " + location);
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Scenario(
+                properties.getProperty("name", location),
+                Long.parseLong(properties.getProperty("seed", "1")),
+                Integer.parseInt(properties.getProperty("matches", "64")),
+                Integer.parseInt(properties.getProperty("kickoff.window.minutes", "180")),
+                Integer.parseInt(properties.getProperty("kickoff.interval.minutes", "15")),
+                Double.parseDouble(properties.getProperty("goals.per.match", "2.7")),
+                Double.parseDouble(properties.getProperty("correction.rate", "0.05")),
+                Integer.parseInt(properties.getProperty("max.added.minutes", "8")),
+                Integer.parseInt(properties.getProperty("duration.minutes", "0")),
+                Integer.parseInt(properties.getProperty("readers", "4")),
+                Integer.parseInt(properties.getProperty("reads.per.reader", "1000")),
+                Double.parseDouble(properties.getProperty("subscribe.ratio", "0.5")),
+                Double.parseDouble(properties.getProperty("time.scale", "0")),
+                properties.getProperty("target", "in-process"),
+                properties.getProperty("engine", "snapshot"),
+                properties.getProperty("rest.url", "http://localhost:8081"));
+    }
+}
@@ -0,0 +1,25 @@
+package footbal.simulator;
+
+/**
+ * The scoreboard as seen by the simulator, either called in process or through the REST API.
+ * Implementations have to be safe to use from several threads.
+ */
+public interface ScoreboardDriver {
+
+    void startMatch(String homeTeam, String awayTeam);
+
+    void updateScore(int matchIndex, int homeScore, int awayScore);
+
+    void finishMatch(int matchIndex);
+
+    /**
+     * Reads the summary, like a polling dashboard.
+     */
+    void pollSummary();
+
+    /**
+     * Reads the changes since the version, like a subscribed client, falling back to the whole scoreboard if the
+     * version is too old. Returns the version to continue from.
+     */
+    long changesSince(long version);
+}
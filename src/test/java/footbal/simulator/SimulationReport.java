@@ -0,0 +1,34 @@
+package footbal.simulator;
+
+import java.util.Map;
+
+/**
+ * Outcome of a simulation run: throughput of the writer and the readers, latency percentiles per operation,
+ * heap and garbage collection figures of this JVM (the server's, when driving the REST API in process).
+ */
+public record SimulationReport(String scenario, int events, long writeNanos, long reads, long readNanos, long errors,
+                               Map<String, LatencyRecorder.Percentiles> latencies,
+                               long heapUsedBeforeBytes, long heapUsedAfterBytes, long heapPeakBytes,
+                               long gcCount, long gcMillis) {
+
+    public double writesPerSecond() {
+        return events * 1e9 / Math.max(1, writeNanos);
+    }
+
+    public double readsPerSecond() {
+        return reads * 1e9 / Math.max(1, readNanos);
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Scenario %s: %d events at %.0f writes/s, %d reads at %.0f reads/s, %d errors%n",
+                scenario, events, writesPerSecond(), reads, readsPerSecond(), errors));
+        latencies.forEach((operation, percentiles) -> report.append(String.format(
+                "  %-10s n=%-8d p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n", operation, percentiles.count(),
+                percentiles.p50() / 1e3, percentiles.p90() / 1e3, percentiles.p99() / 1e3, percentiles.p999() / 1e3,
+                percentiles.max() / 1e3)));
+        report.append(String.format("  heap used %d MB -> %d MB (peak %d MB), %d GCs taking %d ms",
+                heapUsedBeforeBytes >> 20, heapUsedAfterBytes >> 20, heapPeakBytes >> 20, gcCount, gcMillis));
+        return report.toString();
+    }
+}
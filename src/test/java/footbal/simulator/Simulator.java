@@ -0,0 +1,187 @@
+package footbal.simulator;
+
+import footbal.scoreboard.service.ConcurrentMapScoreboardEngine;
+import footbal.scoreboard.service.ScoreboardEngine;
+import footbal.scoreboard.service.ScoreboardService;
+import footbal.scoreboard.service.SingleWriterScoreboardEngine;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the event stream of a scenario against a scoreboard with one writer, while the scenario's readers poll
+ * the summary or fetch changes concurrently, and reports throughput, latencies, heap and GC figures.
+ * <p>
+ * Run a scenario file with {@code main}, e.g. against a running server with {@code target=rest} in the file.
+ */
+public final class Simulator {
+    private static final String[] WRITE_OPERATIONS = {"kickoff", "goal", "correction", "finish"};
+    private static final String[] READ_OPERATIONS = {"poll", "subscribe"};
+
+    private Simulator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Scenario scenario = Scenario.load(args.length > 0 ? args[0] : "simulator/world-cup.properties");
+        if ("rest".equals(scenario.target())) {
+            System.out.println(run(scenario, new RestDriver(scenario.restUrl())).format());
+            return;
+        }
+        ScoreboardEngine engine = createEngine(scenario.engine());
+        try {
+            System.out.println(run(scenario, new InProcessDriver(engine)).format());
+        } finally {
+            if (engine instanceof DisposableBean disposable) {
+                disposable.destroy();
+            }
+        }
+    }
+
+    public static ScoreboardEngine createEngine(String name) {
+        return switch (name) {
+            case "snapshot" -> new ScoreboardService();
+            case "concurrent-map" -> new ConcurrentMapScoreboardEngine();
+            case "single-writer" -> new SingleWriterScoreboardEngine();
+            default -> throw new IllegalArgumentException("Unknown engine: " + name);
+        };
+    }
+
+    public static SimulationReport run(Scenario scenario, ScoreboardDriver driver) throws Exception {
+        List<TournamentEvent> events = TournamentGenerator.generate(scenario);
+        ExecutorService executor = Executors.newFixedThreadPool(scenario.readers() + 1);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicLong errors = new AtomicLong();
+        try {
+            Future<Map<String, LatencyRecorder>> writer = executor.submit(() -> {
+                startSignal.await();
+                return write(scenario, events, driver, errors);
+            });
+            List<Future<Map<String, LatencyRecorder>>> readers = new ArrayList<>();
+            for (int reader = 0; reader < scenario.readers(); reader++) {
+                Random random = new Random(scenario.seed() + reader + 1);
+                readers.add(executor.submit(() -> {
+                    startSignal.await();
+                    return read(scenario, random, driver, errors);
+                }));
+            }
+
+            System.gc();
+            long heapBefore = heapUsed();
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+            long gcCountBefore = gcCount();
+            long gcMillisBefore = gcMillis();
+            long start = System.nanoTime();
+            startSignal.countDown();
+
+            Map<String, LatencyRecorder> latencies = new LinkedHashMap<>(writer.get());
+            long writeNanos = System.nanoTime() - start;
+            long reads = 0;
+            for (Future<Map<String, LatencyRecorder>> reader : readers) {
+                for (Map.Entry<String, LatencyRecorder> entry : reader.get().entrySet()) {
+                    latencies.computeIfAbsent(entry.getKey(), operation -> new LatencyRecorder()).addAll(entry.getValue());
+                }
+            }
+            long readNanos = System.nanoTime() - start;
+
+            Map<String, LatencyRecorder.Percentiles> percentiles = new LinkedHashMap<>();
+            latencies.forEach((operation, recorder) -> percentiles.put(operation, recorder.percentiles()));
+            for (String operation : READ_OPERATIONS) {
+                LatencyRecorder.Percentiles read = percentiles.get(operation);
+                reads += read == null ? 0 : read.count();
+            }
+            return new SimulationReport(scenario.name(), events.size(), writeNanos, reads, readNanos, errors.get(),
+                    percentiles, heapBefore, heapUsed(), heapPeak(), gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, LatencyRecorder> write(Scenario scenario, List<TournamentEvent> events,
+                                                      ScoreboardDriver driver, AtomicLong errors) {
+        Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+        for (String operation : WRITE_OPERATIONS) {
+            latencies.put(operation, new LatencyRecorder());
+        }
+        long start = System.nanoTime();
+        for (TournamentEvent event : events) {
+            if (scenario.timeScale() > 0) {
+                //Wait for the event's time on the scaled clock
+                long due = start + (long) (event.atSecond() * 1e9 / scenario.timeScale());
+                LockSupport.parkNanos(due - System.nanoTime());
+            }
+            long before = System.nanoTime();
+            try {
+                switch (event.type()) {
+                    case KICKOFF -> driver.startMatch(event.homeTeam(), event.awayTeam());
+                    case GOAL, CORRECTION -> driver.updateScore(event.matchIndex(), event.homeScore(), event.awayScore());
+                    case FINISH -> driver.finishMatch(event.matchIndex());
+                }
+            } catch (RuntimeException e) {
+                errors.incrementAndGet();
+            }
+            latencies.get(WRITE_OPERATIONS[event.type().ordinal()]).record(System.nanoTime() - before);
+        }
+        return latencies;
+    }
+
+    private static Map<String, LatencyRecorder> read(Scenario scenario, Random random, ScoreboardDriver driver,
+                                                     AtomicLong errors) {
+        Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+        LatencyRecorder polls = new LatencyRecorder();
+        LatencyRecorder subscriptions = new LatencyRecorder();
+        latencies.put(READ_OPERATIONS[0], polls);
+        latencies.put(READ_OPERATIONS[1], subscriptions);
+        long version = 0;
+        for (int i = 0; i < scenario.readsPerReader(); i++) {
+            boolean subscribe = random.nextDouble() < scenario.subscribeRatio();
+            long before = System.nanoTime();
+            try {
+                if (subscribe) {
+                    version = driver.changesSince(version);
+                } else {
+                    driver.pollSummary();
+                }
+            } catch (RuntimeException e) {
+                errors.incrementAndGet();
+            }
+            (subscribe ? subscriptions : polls).record(System.nanoTime() - before);
+        }
+        return latencies;
+    }
+
+    private static long heapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long heapPeak() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+}
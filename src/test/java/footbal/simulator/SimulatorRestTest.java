@@ -0,0 +1,45 @@
+package footbal.simulator;
+
+import footbal.scoreboard.service.ScoreboardEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static footbal.simulator.SimulatorTest.SCENARIO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays the scenario of {@link SimulatorTest} through the REST API of a running server. Starting the server takes
+ * most of the time, so the replay runs with the benchmarks ({@code mvn -Pbenchmark test}) rather than in the unit suite.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "scoreboard.admission.enabled=false")
+public class SimulatorRestTest {
+    @Value("${local.server.port}")
+    private int port;
+    @Autowired
+    private ScoreboardEngine serverEngine;
+    private ScoreboardEngine engine;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (engine instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    @Test
+    public void testRestApi() throws Exception {
+        serverEngine.reset();
+        SimulationReport report = Simulator.run(SCENARIO, new RestDriver("http://localhost:" + port));
+
+        engine = Simulator.createEngine(SCENARIO.engine());
+        Simulator.run(SCENARIO, new InProcessDriver(engine));
+        assertEquals(0, report.errors());
+        assertEquals(engine.getFormatedSortedSummary(), serverEngine.getFormatedSortedSummary());
+    }
+}
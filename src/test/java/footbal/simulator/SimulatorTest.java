@@ -0,0 +1,70 @@
+package footbal.simulator;
+
+import footbal.scoreboard.service.ScoreboardEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the smoke scenario (or the one named by the {@code simulator.scenario} system property) in process against
+ * every engine, and checks that a scenario always replays to the same scoreboard. The replay through the REST API
+ * is {@link SimulatorRestTest}. The reports are not printed here, {@link Simulator#main(String[])} prints them.
+ */
+public class SimulatorTest {
+    private static final String ENGINES = "footbal.scoreboard.service.ScoreboardEngineConformanceTest#engines";
+    static final Scenario SCENARIO = Scenario.load(System.getProperty("simulator.scenario", "simulator/smoke.properties"));
+
+    private ScoreboardEngine engine;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (engine instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    @Test
+    public void testEventStreamIsDeterministic() {
+        List<TournamentEvent> events = TournamentGenerator.generate(SCENARIO);
+
+        //The same seed gives the same stream, another seed a different one
+        assertEquals(events, TournamentGenerator.generate(SCENARIO));
+        assertNotEquals(events, TournamentGenerator.generate(withSeed(SCENARIO, SCENARIO.seed() + 1)));
+
+        //Every match kicks off before it scores, and scores never go below zero
+        assertEquals(TournamentEvent.Type.KICKOFF, events.getFirst().type());
+        assertTrue(events.stream().allMatch(event -> event.homeScore() >= 0 && event.awayScore() >= 0));
+        assertTrue(events.stream().anyMatch(event -> event.type() == TournamentEvent.Type.CORRECTION), "Stream should contain corrections");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ENGINES)
+    public void testReplayIsDeterministic(Supplier<ScoreboardEngine> engines) throws Exception {
+        engine = engines.get();
+        SimulationReport report = Simulator.run(SCENARIO, new InProcessDriver(engine));
+        List<String> summary = engine.getFormatedSortedSummary();
+        tearDown();
+
+        //Every event is one version, and replaying the scenario ends with the same scoreboard
+        assertEquals(0, report.errors());
+        engine = engines.get();
+        Simulator.run(SCENARIO, new InProcessDriver(engine));
+        assertEquals(report.events(), engine.getVersion());
+        assertEquals(summary, engine.getFormatedSortedSummary());
+        assertFalse(summary.isEmpty(), "Scenario should be cut off while matches are running");
+    }
+
+    private static Scenario withSeed(Scenario scenario, long seed) {
+        return new Scenario(scenario.name(), seed, scenario.matches(), scenario.kickoffWindowMinutes(),
+                scenario.kickoffIntervalMinutes(), scenario.goalsPerMatch(), scenario.correctionRate(),
+                scenario.maxAddedMinutes(), scenario.durationMinutes(), scenario.readers(), scenario.readsPerReader(),
+                scenario.subscribeRatio(), scenario.timeScale(), scenario.target(), scenario.engine(), scenario.restUrl());
+    }
+}
@@ -0,0 +1,17 @@
+package footbal.simulator;
+
+/**
+ * One write of the simulated tournament. {@code matchIndex} is the position of the match on the scoreboard when
+ * the event is played, and the scores are the scores after the event.
+ */
+public record TournamentEvent(long atSecond, Type type, int matchIndex, String homeTeam, String awayTeam,
+                              int homeScore, int awayScore) {
+
+    public enum Type {
+        KICKOFF,
+        GOAL,
+        //A goal disallowed after it was shown on the scoreboard
+        CORRECTION,
+        FINISH
+    }
+}
@@ -0,0 +1,139 @@
+package footbal.simulator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the event stream of a scenario: kickoffs in waves, goals arriving as a Poisson process over the
+ * match time, some goals corrected shortly after, and a finish at the end of the added time.
+ * <p>
+ * The stream only depends on the scenario, so the same seed always generates exactly the same events.
+ */
+public final class TournamentGenerator {
+    private static final int MATCH_MINUTES = 90;
+
+    private TournamentGenerator() {
+    }
+
+    public static List<TournamentEvent> generate(Scenario scenario) {
+        Random random = new Random(scenario.seed());
+        List<Planned> planned = new ArrayList<>();
+        int waves = Math.max(1, scenario.kickoffWindowMinutes() / Math.max(1, scenario.kickoffIntervalMinutes()));
+        for (int match = 0; match < scenario.matches(); match++) {
+            long kickoff = 60L * random.nextInt(waves) * scenario.kickoffIntervalMinutes();
+            long length = 60L * (MATCH_MINUTES + random.nextInt(scenario.maxAddedMinutes() + 1));
+            planned.add(new Planned(kickoff, TournamentEvent.Type.KICKOFF, match, true));
+            int goals = poisson(random, scenario.goalsPerMatch());
+            for (int goal = 0; goal < goals; goal++) {
+                long at = kickoff + 1 + (long) (random.nextDouble() * (length - 120));
+                boolean home = random.nextBoolean();
+                planned.add(new Planned(at, TournamentEvent.Type.GOAL, match, home));
+                if (random.nextDouble() < scenario.correctionRate()) {
+                    planned.add(new Planned(at + 60, TournamentEvent.Type.CORRECTION, match, home));
+                }
+            }
+            planned.add(new Planned(kickoff + length, TournamentEvent.Type.FINISH, match, true));
+        }
+        //Kickoffs first and finishes last within the same second, then by match
+        planned.sort(Comparator.comparingLong(Planned::atSecond)
+                .thenComparing(Planned::type)
+                .thenComparingInt(Planned::match));
+
+        //Play the plan to resolve scoreboard positions and scores
+        long end = scenario.durationMinutes() > 0 ? 60L * scenario.durationMinutes() : Long.MAX_VALUE;
+        int[] startRank = new int[scenario.matches()];
+        int[] homeScores = new int[scenario.matches()];
+        int[] awayScores = new int[scenario.matches()];
+        Positions positions = new Positions(scenario.matches());
+        int started = 0;
+        List<TournamentEvent> events = new ArrayList<>(planned.size());
+        for (Planned event : planned) {
+            if (event.atSecond() > end) {
+                break;
+            }
+            int match = event.match();
+            if (event.type() == TournamentEvent.Type.KICKOFF) {
+                startRank[match] = started++;
+            }
+            int index = positions.indexOf(startRank[match]);
+            switch (event.type()) {
+                case KICKOFF -> positions.add(startRank[match]);
+                case GOAL -> {
+                    if (event.home()) {
+                        homeScores[match]++;
+                    } else {
+                        awayScores[match]++;
+                    }
+                }
+                case CORRECTION -> {
+                    if (event.home()) {
+                        homeScores[match]--;
+                    } else {
+                        awayScores[match]--;
+                    }
+                }
+                case FINISH -> positions.remove(startRank[match]);
+            }
+            events.add(new TournamentEvent(event.atSecond(), event.type(), index, homeTeam(match), awayTeam(match),
+                    homeScores[match], awayScores[match]));
+        }
+        return events;
+    }
+
+    public static String homeTeam(int match) {
+        return "Team " + (2 * match + 1);
+    }
+
+    public static String awayTeam(int match) {
+        return "Team " + (2 * match + 2);
+    }
+
+    //Knuth's algorithm, fine for the small means of football scores
+    private static int poisson(Random random, double mean) {
+        double limit = Math.exp(-mean);
+        int count = 0;
+        double product = random.nextDouble();
+        while (product > limit) {
+            count++;
+            product *= random.nextDouble();
+        }
+        return count;
+    }
+
+    private record Planned(long atSecond, TournamentEvent.Type type, int match, boolean home) {
+    }
+
+    //Fenwick tree over start ranks: the scoreboard position of a match is the number of running matches started before it
+    private static final class Positions {
+        private final int[] tree;
+
+        private Positions(int size) {
+            tree = new int[size + 1];
+        }
+
+        private void add(int rank) {
+            update(rank, 1);
+        }
+
+        private void remove(int rank) {
+            update(rank, -1);
+        }
+
+        private void update(int rank, int delta) {
+            for (int i = rank + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        //Number of running matches with a smaller start rank
+        private int indexOf(int rank) {
+            int count = 0;
+            for (int i = rank; i > 0; i -= i & -i) {
+                count += tree[i];
+            }
+            return count;
+        }
+    }
+}